@@ -14,7 +14,7 @@ import WorkItemDetailModal from "@/components/board/WorkItemDetailModal";
 import ViewOnlyWorkItemModal from "@/components/board/ViewOnlyWorkItemModal";
 import { COLUMNS } from "@/components/board/contants";
 
-import { useProjectSocket } from "@/hooks/use-project-socket";
+import { applyPatch, useProjectSocket } from "@/hooks/use-project-socket";
 
 export default function BoardPage() {
     const params = useParams();
@@ -141,23 +141,39 @@ export default function BoardPage() {
         setItems(newItems);
 
         try {
-            await workItemService.updateWorkItem(
+            const saved = await workItemService.moveWorkItem(
                 workspaceId,
                 projectId,
                 movedItem.id,
                 {
                     status: destStatus,
-                    position: newPosition
+                    position: newPosition,
+                    version: movedItem.version
                 }
             );
-        } catch (err) {
+            setItems(current => current.map(item => item.id === saved.id ? { ...item, ...saved } : item));
+        } catch (err: any) {
             console.error("Failed to update status/position on server:", err);
-            setItems(previousItems);
+            // On a conflict keep everyone else's edits and show the item where the server has it
+            const current: WorkItem | undefined = err?.current;
+            setItems(current
+                ? previousItems.map(item => item.id === current.id ? current : item)
+                : previousItems);
         }
     };
 
     // Websocket
-    const socketResult = useProjectSocket(projectId, (event) => {
+    const socketResult = useProjectSocket(workspaceId, projectId, (event) => {
+        // A delta for a copy we no longer match: fall back to the full item
+        if (event.type === 'PATCHED') {
+            const local = items.find(item => item.id === event.workItemId);
+            if (local && local.version < event.version! && !applyPatch(local, event)) {
+                workItemService.getWorkItem(workspaceId, projectId, event.workItemId!)
+                    .then(full => setItems(current => current.map(item => item.id === full.id ? full : item)))
+                    .catch(err => console.error("Failed to refresh work item:", err));
+                return;
+            }
+        }
         setItems((currentItems) => {
             switch (event.type) {
                 case 'CREATED':
@@ -170,13 +186,37 @@ export default function BoardPage() {
                     return currentItems.map(item =>
                         item.id === event.workItem!.id ? event.workItem! : item
                     ).sort((a, b) => a.position - b.position);
+                case 'PATCHED':
+                    return currentItems.map(item =>
+                        item.id === event.workItemId ? applyPatch(item, event) ?? item : item
+                    )
+                        .sort((a, b) => a.position - b.position);
                 case 'DELETED':
                     return currentItems.filter(item => item.id !== event.workItemId);
+                case 'BATCH': {
+                    const deleted = new Set(event.workItemIds ?? []);
+                    const upserts = new Map((event.workItems ?? []).map(i => [i.id, i]));
+                    const kept = currentItems
+                        .filter(item => !deleted.has(item.id))
+                        .map(item => upserts.get(item.id) ?? item);
+                    const created = [...upserts.values()].filter(i => !currentItems.some(item => item.id === i.id));
+                    return [...kept, ...created]
+                        .sort((a, b) => a.position - b.position);
+                }
+                case 'REORDERED': {
+                    const step = event.step ?? 1000;
+                    const rank = new Map((event.workItemIds ?? []).map((id, i) => [id, i]));
+                    return currentItems
+                        .map(item => rank.has(item.id)
+                            ? { ...item, position: (rank.get(item.id)! + 1) * step, version: item.version + 1 }
+                            : item)
+                        .sort((a, b) => a.position - b.position);
+                }
                 default:
                     return currentItems;
             }
         });
-    });
+    }, fetchBoardData);
 
     const isConnected = (socketResult as any)?.isConnected ?? true;
 
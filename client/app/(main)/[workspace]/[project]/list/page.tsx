@@ -9,7 +9,7 @@ import { Search, Plus, ChevronUp, ChevronDown, ChevronsUpDown, Calendar, User as
 import CreateWorkItemModal from "@/components/board/CreateWorkItemModal";
 import WorkItemDetailModal from "@/components/board/WorkItemDetailModal";
 import ViewOnlyWorkItemModal from "@/components/board/ViewOnlyWorkItemModal";
-import { useProjectSocket } from "@/hooks/use-project-socket";
+import { applyPatch, useProjectSocket } from "@/hooks/use-project-socket";
 
 type SortField = "title" | "status" | "priority" | "createdAt" | "assignee";
 type SortDirection = "asc" | "desc";
@@ -68,7 +68,17 @@ export default function ListPage() {
     }, [params]);
 
     // Websocket
-    const socketResult = useProjectSocket(projectId, (event) => {
+    const socketResult = useProjectSocket(workspaceId, projectId, (event) => {
+        // A delta for a copy we no longer match: fall back to the full item
+        if (event.type === 'PATCHED') {
+            const local = items.find(item => item.id === event.workItemId);
+            if (local && local.version < event.version! && !applyPatch(local, event)) {
+                workItemService.getWorkItem(workspaceId, projectId, event.workItemId!)
+                    .then(full => setItems(current => current.map(item => item.id === full.id ? full : item)))
+                    .catch(err => console.error("Failed to refresh work item:", err));
+                return;
+            }
+        }
         setItems((currentItems) => {
             switch (event.type) {
                 case 'CREATED':
@@ -81,13 +91,34 @@ export default function ListPage() {
                     return currentItems.map(item =>
                         item.id === event.workItem!.id ? event.workItem! : item
                     );
+                case 'PATCHED':
+                    return currentItems.map(item =>
+                        item.id === event.workItemId ? applyPatch(item, event) ?? item : item
+                    );
                 case 'DELETED':
                     return currentItems.filter(item => item.id !== event.workItemId);
+                case 'BATCH': {
+                    const deleted = new Set(event.workItemIds ?? []);
+                    const upserts = new Map((event.workItems ?? []).map(i => [i.id, i]));
+                    const kept = currentItems
+                        .filter(item => !deleted.has(item.id))
+                        .map(item => upserts.get(item.id) ?? item);
+                    const created = [...upserts.values()].filter(i => !currentItems.some(item => item.id === i.id));
+                    return [...kept, ...created];
+                }
+                case 'REORDERED': {
+                    const step = event.step ?? 1000;
+                    const rank = new Map((event.workItemIds ?? []).map((id, i) => [id, i]));
+                    return currentItems
+                        .map(item => rank.has(item.id)
+                            ? { ...item, position: (rank.get(item.id)! + 1) * step, version: item.version + 1 }
+                            : item);
+                }
                 default:
                     return currentItems;
             }
         });
-    });
+    }, fetchListData);
 
     const isConnected = (socketResult as any)?.isConnected ?? true;
 
@@ -212,6 +212,7 @@ export default function WorkItemDetailModal({
                 type,
                 assigneeId: assigneeId || null,
                 removeAssignee: shouldRemoveAssignee,
+                version: item.version,
             };
 
             const updatedItem = await workItemService.updateWorkItem(
@@ -1,6 +1,6 @@
 "use client";
 
-import { useState, useEffect } from "react"; // Added useEffect
+import { useState, useEffect, useCallback } from "react"; // Added useEffect
 import { Mail, User, LogOut } from "lucide-react";
 import {
   DropdownMenu,
@@ -14,6 +14,7 @@ import { useRouter } from "next/navigation";
 import { authService } from "@/services/auth-service";
 import { notificationService } from "@/services/notification-service"; // Import your service
 import NotificationsModal from "@/components/notifications/NotificationsModal";
+import { NotificationPush, useNotificationSocket } from "@/hooks/use-notification-socket";
 
 export default function UserActions() {
   const router = useRouter();
@@ -32,6 +33,11 @@ export default function UserActions() {
     checkNotifications();
   }, []);
 
+  // Pushed on creation, so no polling after the initial check
+  useNotificationSocket(useCallback((push: NotificationPush) => {
+    setHasUnread(push.unreadCount > 0);
+  }, []));
+
   const handleLogout = () => {
     authService.logout();
     router.push("/");
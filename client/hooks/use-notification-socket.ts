@@ -0,0 +1,38 @@
+import { useEffect } from 'react';
+import SockJS from 'sockjs-client';
+import { Stomp } from '@stomp/stompjs';
+import { InboxItem } from '@/types/types';
+import { authService } from '@/services/auth-service';
+
+export interface NotificationPush {
+    notification: InboxItem;
+    unreadCount: number;
+}
+
+// New notifications for the signed-in user, pushed by the server as they are created
+export const useNotificationSocket = (onPush: (push: NotificationPush) => void) => {
+    useEffect(() => {
+        const token = authService.getToken();
+        if (!token) return;
+
+        const client = Stomp.over(() => {
+            return new SockJS(`${process.env.NEXT_PUBLIC_API_URL?.replace('/api', '')}/ws`);
+        });
+
+        client.debug = () => { };
+        client.reconnect_delay = 5000;
+
+        // The token identifies the session; /user/queue/... then reaches only this user
+        client.connect({ Authorization: `Bearer ${token}` }, () => {
+            client.subscribe('/user/queue/notifications', (message) => {
+                onPush(JSON.parse(message.body));
+            });
+        }, (error: any) => {
+            console.error('Notification socket error:', error);
+        });
+
+        return () => {
+            client.deactivate();
+        };
+    }, [onPush]);
+};
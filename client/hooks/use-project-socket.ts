@@ -1,20 +1,71 @@
-import { useEffect } from 'react';
+import { useEffect, useRef } from 'react';
 import SockJS from 'sockjs-client';
 import { Stomp } from '@stomp/stompjs';
 import { WorkItem } from '@/types/types';
+import { authService } from '@/services/auth-service';
 
-type EventType = 'CREATED' | 'UPDATED' | 'DELETED';
+type EventType = 'CREATED' | 'UPDATED' | 'DELETED' | 'BATCH' | 'REORDERED' | 'PATCHED' | 'PRESENCE' | 'RESYNC' | 'REPLAY';
+
+// PRESENCE: who has the board open; no email, unlike UserSummary
+export interface BoardViewer {
+    id: string;
+    fullName: string;
+}
 
 interface SocketEvent {
     type: EventType;
     workItem: WorkItem | null;
     workItemId: string | null;
+    // BATCH: upserted items and deleted ids
+    workItems?: WorkItem[];
+    // BATCH: deleted ids; REORDERED: every id in board order, item i at (i + 1) * step, each version + 1
+    workItemIds?: string[];
+    step?: number;
+    // PATCHED: only the written fields, valid for a local copy at baseVersion
+    baseVersion?: number;
+    version?: number;
+    boardVersion?: number;
+    updatedAt?: string;
+    changes?: Partial<WorkItem>;
+    // PRESENCE: viewers who opened or left the board (GET .../presence for the full list)
+    joined?: BoardViewer[];
+    left?: string[];
+    // REPLAY: the answer to a resuming SUBSCRIBE, frames of stream after the seq sent
+    stream?: string;
+    events?: { seq: number; event: SocketEvent }[];
+}
+
+// Applies a PATCHED event; null when the local copy is not the version the delta was made from
+export const applyPatch = (item: WorkItem, event: SocketEvent): WorkItem | null => {
+    if (item.version !== event.baseVersion) return null;
+    return {
+        ...item,
+        ...event.changes,
+        version: event.version!,
+        boardVersion: event.boardVersion!,
+        updatedAt: event.updatedAt!,
+    };
+};
+
+interface StreamPosition {
+    stream: string;
+    seq: number;
 }
 
+// onReconnect runs when a dropped connection is back but the missed events could not be replayed,
+// and when the server sends RESYNC because it lost events of the board
 export const useProjectSocket = (
+    workspaceId: string,
     projectId: string,
-    onEvent: (event: SocketEvent) => void
+    onEvent: (event: SocketEvent) => void,
+    onReconnect?: () => void
 ) => {
+    // Latest callbacks without reconnecting on every render
+    const onEventRef = useRef(onEvent);
+    const onReconnectRef = useRef(onReconnect);
+    onEventRef.current = onEvent;
+    onReconnectRef.current = onReconnect;
+
     useEffect(() => {
         if (!projectId) return;
 
@@ -24,21 +75,69 @@ export const useProjectSocket = (
         });
 
         client.debug = () => { };
+        // The server disconnects clients that fall behind; come back and resync
+        client.reconnect_delay = 5000;
+
+        // Last frame applied, from the stream/seq headers; frames at or before it are skipped
+        let position: StreamPosition | null = null;
+        let connectedBefore = false;
+
+        const apply = (stream: string, seq: number, event: SocketEvent) => {
+            if (position && position.stream === stream && seq <= position.seq) return;
+            position = { stream, seq };
+            if (event.type === 'RESYNC') onReconnectRef.current?.();
+            else onEventRef.current(event);
+        };
+
+        // Live frames that arrive before the answer to a resuming SUBSCRIBE wait here
+        let pending: { stream: string; seq: number; event: SocketEvent }[] | null = null;
+
+        // The server answers a resume with REPLAY, or RESYNC when the missed frames are gone
+        const finishResume = (answer: SocketEvent) => {
+            if (answer.type === 'REPLAY' && position && answer.stream === position.stream) {
+                const stream = answer.stream;
+                answer.events!.forEach(entry => apply(stream, entry.seq, entry.event));
+            } else {
+                position = null;
+                onReconnectRef.current?.();
+            }
+            const queued = pending ?? [];
+            pending = null;
+            queued.sort((a, b) => a.seq - b.seq).forEach(frame => apply(frame.stream, frame.seq, frame.event));
+        };
+
+        // Board topics only accept signed-in members of the workspace
+        const token = authService.getToken();
+        client.connect(token ? { Authorization: `Bearer ${token}` } : {}, () => {
+            // Back from a dropped connection: ask the server for what was missed on this subscription
+            const resuming = connectedBefore && position !== null;
+            const headers: Record<string, string> = resuming
+                ? { 'resume-stream': position!.stream, 'resume-after': String(position!.seq) }
+                : {};
+            pending = resuming ? [] : null;
 
-        client.connect({}, () => {
             // Subscribe to the specific project topic
             client.subscribe(`/topic/project/${projectId}`, (message) => {
                 const event: SocketEvent = JSON.parse(message.body);
-                onEvent(event);
-            });
+                // Only the answer to a resume comes without a seq header
+                if (message.headers['seq'] === undefined) {
+                    finishResume(event);
+                    return;
+                }
+                const frame = { stream: message.headers['stream'], seq: Number(message.headers['seq']), event };
+                if (pending) pending.push(frame);
+                else apply(frame.stream, frame.seq, frame.event);
+            }, headers);
+            // Nothing applied yet, so nothing to resume from
+            if (connectedBefore && !resuming) onReconnectRef.current?.();
+            connectedBefore = true;
         }, (error: any) => {
             console.error('Socket connection error:', error);
         });
 
         return () => {
-            if (client && client.connected) {
-                client.disconnect();
-            }
+            // Also cancels a pending reconnect
+            client.deactivate();
         };
-    }, [projectId, onEvent]);
-};
\ No newline at end of file
+    }, [workspaceId, projectId]);
+};
@@ -2,6 +2,11 @@ import Cookies from 'js-cookie';
 
 const API_URL = `${process.env.NEXT_PUBLIC_API_URL}/auth`;
 
+// Set by the server when the token's workspace roles are out of date
+const STALE_TOKEN_HEADER = 'X-Token-Stale';
+
+let refreshing: Promise<void> | null = null;
+
 export const authService = {
   async login(email: string, password: string) {
     const credentials = btoa(`${email}:${password}`);
@@ -40,6 +45,30 @@ export const authService = {
     return Cookies.get('stride_token');
   },
 
+  // Re-issue the token so its role claims match the current memberships; concurrent calls share one request
+  refreshToken(): Promise<void> {
+    if (!refreshing) {
+      refreshing = fetch(`${API_URL}/refresh`, {
+        method: 'POST',
+        headers: { 'Authorization': `Bearer ${Cookies.get('stride_token')}` },
+      })
+        .then(async response => {
+          if (!response.ok) return;
+          Cookies.set('stride_token', await response.text(), { expires: 1, secure: true, sameSite: 'strict' });
+        })
+        .catch(err => console.error("Failed to refresh token:", err))
+        .finally(() => { refreshing = null; });
+    }
+    return refreshing;
+  },
+
+  // Call with any API response; refreshes in the background when the server flags the token
+  checkStaleToken(response: Response) {
+    if (response.headers.get(STALE_TOKEN_HEADER)) {
+      void this.refreshToken();
+    }
+  },
+
   logout() {
     Cookies.remove('stride_token');
   }
@@ -1,5 +1,5 @@
 import { authService } from "./auth-service";
-import { CreateWorkItemRequest, UpdateWorkItemRequest, WorkItem } from "@/types/types";
+import { CreateWorkItemRequest, MoveWorkItemRequest, UpdateWorkItemRequest, WorkItem, WorkItemBatchResult, WorkItemChanges, WorkItemMoveResult, WorkItemOperation } from "@/types/types";
 
 const getBaseUrl = (workspaceId: string, projectId: string) =>
     `${process.env.NEXT_PUBLIC_API_URL}/projects/${workspaceId}/${projectId}/work-items`;
@@ -16,11 +16,44 @@ export const workItemService = {
             },
         });
 
+        authService.checkStaleToken(response);
         const data = await response.json();
         if (!response.ok) throw new Error(data.message || "Failed to fetch work items");
         return data;
     },
 
+    // Full item, for socket deltas that do not apply to the local copy
+    async getWorkItem(workspaceId: string, projectId: string, workItemId: string): Promise<WorkItem> {
+        const token = authService.getToken();
+        const response = await fetch(`${getBaseUrl(workspaceId, projectId)}/${workItemId}`, {
+            method: "GET",
+            headers: {
+                "Content-Type": "application/json",
+                "Authorization": `Bearer ${token}`,
+            },
+        });
+
+        const data = await response.json();
+        if (!response.ok) throw new Error(data.message || "Failed to fetch work item");
+        return data;
+    },
+
+    // Items written and ids deleted after `since` (the highest boardVersion held)
+    async getWorkItemChanges(workspaceId: string, projectId: string, since: number): Promise<WorkItemChanges> {
+        const token = authService.getToken();
+        const response = await fetch(`${getBaseUrl(workspaceId, projectId)}/changes?since=${since}`, {
+            method: "GET",
+            headers: {
+                "Content-Type": "application/json",
+                "Authorization": `Bearer ${token}`,
+            },
+        });
+
+        const data = await response.json();
+        if (!response.ok) throw new Error(data.message || "Failed to fetch work item changes");
+        return data;
+    },
+
     async createWorkItem(
         workspaceId: string,
         projectId: string,
@@ -58,10 +91,55 @@ export const workItemService = {
         });
 
         const data = await response.json();
+        if (response.status === 409) throw Object.assign(new Error("Work item was changed by someone else"), { current: data as WorkItem });
         if (!response.ok) throw new Error(data.message || "Failed to update work item");
         return data;
     },
 
+    // Status/position only; on 409 the thrown error carries the server's current item
+    async moveWorkItem(
+        workspaceId: string,
+        projectId: string,
+        workItemId: string,
+        payload: MoveWorkItemRequest
+    ): Promise<WorkItemMoveResult> {
+        const token = authService.getToken();
+        const response = await fetch(`${getBaseUrl(workspaceId, projectId)}/${workItemId}/move`, {
+            method: "PATCH",
+            headers: {
+                "Content-Type": "application/json",
+                "Authorization": `Bearer ${token}`,
+            },
+            body: JSON.stringify(payload),
+        });
+
+        const data = await response.json();
+        if (response.status === 409) throw Object.assign(new Error("Work item was changed by someone else"), { current: data as WorkItem });
+        if (!response.ok) throw new Error(data.message || "Failed to move work item");
+        return data;
+    },
+
+    // Applies all operations atomically; the server sends a single BATCH socket event
+    async applyBatch(
+        workspaceId: string,
+        projectId: string,
+        operations: WorkItemOperation[]
+    ): Promise<WorkItemBatchResult> {
+        const token = authService.getToken();
+        const response = await fetch(`${getBaseUrl(workspaceId, projectId)}/batch`, {
+            method: "POST",
+            headers: {
+                "Content-Type": "application/json",
+                "Authorization": `Bearer ${token}`,
+            },
+            body: JSON.stringify({ operations }),
+        });
+
+        const data = await response.json();
+        if (!response.ok) throw new Error(data.message || "Failed to apply work item batch");
+        return data;
+    },
+
     async deleteWorkItem(workspaceId: string, projectId: string, workItemId: string): Promise<void> {
         const token = authService.getToken();
         const response = await fetch(`${getBaseUrl(workspaceId, projectId)}/${workItemId}`, {
@@ -14,6 +14,7 @@ export const workspaceService = {
       },
     });
 
+    authService.checkStaleToken(response);
     const data = await response.json();
     if (!response.ok) throw new Error(data.message || "Failed to fetch workspaces");
     return data;
@@ -32,6 +33,8 @@ export const workspaceService = {
 
     const result = await response.json();
     if (!response.ok) throw new Error(result.message || "Failed to create workspace");
+    // The new ADMIN membership bumped our epoch; pick up a token that carries it
+    await authService.refreshToken();
     return result;
   },
 
@@ -49,6 +52,7 @@ export const workspaceService = {
       const data = await response.json();
       throw new Error(data.message || "Failed to fetch workspace");
     }
+    authService.checkStaleToken(response);
     return response.json();
   },
 
@@ -81,6 +85,7 @@ export const workspaceService = {
       const data = await response.json().catch(() => ({}));
       throw new Error(data.message || "Failed to leave workspace");
     }
+    await authService.refreshToken();
   },
   
   async deleteWorkspace(workspaceId: string): Promise<void> {
@@ -97,6 +102,7 @@ export const workspaceService = {
       const data = await response.json().catch(() => ({}));
       throw new Error(data.message || "Failed to delete workspace");
     }
+    await authService.refreshToken();
   },
 
   // --- Users & Membership ---
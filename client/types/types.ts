@@ -63,6 +63,13 @@ export interface UpdateWorkItemRequest {
   assigneeId?: string | null;
   position?: number; // optionl ahaha
   removeAssignee?: boolean;
+  version?: number; // expected item version; a stale one is answered with 409
+}
+
+export interface MoveWorkItemRequest {
+  status?: WorkItemStatus;
+  position?: number;
+  version?: number;
 }
 
 export type WorkItemStatus = 'BACKLOG' | 'TODO' | 'IN_PROGRESS' | 'DONE';
@@ -79,6 +86,8 @@ export interface WorkItem {
   type: WorkItemType;
 
   position: number;
+  boardVersion: number;
+  version: number;
 
   createdAt: string;
   updatedAt: string;
@@ -89,6 +98,29 @@ export interface WorkItem {
   projectId: string;
 }
 
+// What PATCH .../move returns: only the fields the move wrote
+export type WorkItemMoveResult = Pick<WorkItem, 'id' | 'version' | 'boardVersion' | 'status' | 'position' | 'updatedAt'>;
+
+export type WorkItemOperationKind = 'CREATE' | 'UPDATE' | 'MOVE' | 'DELETE';
+
+export interface WorkItemOperation extends UpdateWorkItemRequest {
+  op: WorkItemOperationKind;
+  id?: string;
+}
+
+export interface WorkItemBatchResult {
+  version: number;
+  items: WorkItem[];
+  deletedIds: string[];
+}
+
+export interface WorkItemChanges {
+  version: number;
+  resyncRequired: boolean;
+  items: WorkItem[];
+  deletedIds: string[];
+}
+
 export interface InboxItem {
   id: string;
   type: 'invite' | 'update';
@@ -1,14 +1,21 @@
 package com.strideboard.auth;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.strideboard.data.user.User;
 
@@ -23,15 +30,35 @@ public class AuthController {
         this.userDetailsService = userDetailsService;
     }
 
+    // Returns a future so the servlet thread is released while the hash is checked
     @PostMapping("/login")
-    public String token(Authentication auth) {
-        return tokenService.generateToken(auth);
+    public CompletableFuture<String> token(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String[] credentials = decodeBasic(authorization);
+
+        return userDetailsService.authenticate(credentials[0], credentials[1])
+                .thenApply(this::issueToken);
     }
 
     @PostMapping("/register")
-    public String register(@RequestBody RegisterRequest registration) {
-        User user = userDetailsService.registerUser(registration);
+    public CompletableFuture<String> register(@RequestBody RegisterRequest registration) {
+        return userDetailsService.registerUser(registration)
+                .thenApply(this::issueToken);
+    }
+
+    // Re-issue a token so role claims catch up after a membership change
+    @PostMapping("/refresh")
+    public String refresh(Authentication auth) {
+        return tokenService.generateToken(auth);
+    }
+
+    @GetMapping("/check")
+    public boolean checkTokenStatus(Authentication authentication) {
+        // If the code reaches here, roken validated
+        return true;
+    }
 
+    private String issueToken(User user) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 user.getEmail(),
                 null,
@@ -40,10 +67,25 @@ public class AuthController {
         return tokenService.generateToken(authentication);
     }
 
-    @GetMapping("/check")
-    public boolean checkTokenStatus(Authentication authentication) {
-        // If the code reaches here, roken validated
-        return true;
+    // "Basic base64(email:password)" -> [email, password]
+    private String[] decodeBasic(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, "Basic ", 0, 6)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing credentials");
+        }
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getDecoder().decode(authorization.substring(6).trim()),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Malformed credentials");
+        }
+
+        int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Malformed credentials");
+        }
+        return new String[] { decoded.substring(0, separator), decoded.substring(separator + 1) };
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.strideboard.auth;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Lightweight view of the authenticated user, resolved once per request
+ * from the JWT instead of loading the full User entity.
+ *
+ * workspaceRoles and membershipEpoch come from the token's role claims and
+ * are null for tokens issued without them.
+ */
+public record CurrentUser(UUID id, String email, String fullName, Map<UUID, String> workspaceRoles,
+        Long membershipEpoch) {
+
+    public CurrentUser(UUID id, String email, String fullName) {
+        this(id, email, fullName, null, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.strideboard.auth;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.strideboard.workspace.WorkspaceAccessService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Injects {@link CurrentUser} into controller methods so endpoints no longer
+ * start with userRepository.findByEmail(auth.getName()). Built straight from
+ * the token claims when present, otherwise from the principal cache.
+ *
+ * Responses to tokens whose role claims are missing or older than the user's
+ * membership epoch carry X-Token-Stale; the client then calls POST /api/auth/refresh.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String STALE_TOKEN_HEADER = "X-Token-Stale";
+
+    private final CurrentUserCache currentUserCache;
+    private final WorkspaceAccessService workspaceAccess;
+
+    public CurrentUserArgumentResolver(CurrentUserCache currentUserCache, WorkspaceAccessService workspaceAccess) {
+        this.currentUserCache = currentUserCache;
+        this.workspaceAccess = workspaceAccess;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return CurrentUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public CurrentUser resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        // Tokens carrying the uid claim describe the user completely
+        if (auth instanceof JwtAuthenticationToken jwtAuth) {
+            CurrentUser fromClaims = TokenClaims.decode(jwtAuth.getToken());
+            if (fromClaims != null) {
+                // Epoch lookup is cached, so this costs nothing on the hot path
+                if (fromClaims.membershipEpoch() == null
+                        || fromClaims.membershipEpoch() != workspaceAccess.currentEpoch(fromClaims.id())) {
+                    markStale(webRequest);
+                }
+                return fromClaims;
+            }
+        }
+        markStale(webRequest);
+
+        return currentUserCache.find(auth.getName())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+    }
+
+    private static void markStale(NativeWebRequest webRequest) {
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(STALE_TOKEN_HEADER, "true");
+        }
+    }
+}
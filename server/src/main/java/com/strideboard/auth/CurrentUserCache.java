@@ -0,0 +1,56 @@
+package com.strideboard.auth;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.strideboard.config.AfterCommit;
+import com.strideboard.config.CacheInvalidations;
+import com.strideboard.data.user.UserRepository;
+
+/**
+ * Bounded, TTL-evicting cache of JWT subject (email) -> CurrentUser.
+ * Keeps the per-request principal lookup off the database. Evictions reach the
+ * other nodes through CacheInvalidations.
+ */
+@Component
+public class CurrentUserCache {
+
+    private static final String CACHE_NAME = "principal";
+
+    private final UserRepository userRepository;
+    private final CacheInvalidations invalidations;
+    private final Cache<String, CurrentUser> cache;
+
+    public CurrentUserCache(UserRepository userRepository, CacheInvalidations invalidations,
+            @Value("${app.cache.principal.max-size:10000}") long maxSize,
+            @Value("${app.cache.principal.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.invalidations = invalidations;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        invalidations.register(CACHE_NAME, cache::invalidate, cache::invalidateAll);
+    }
+
+    public Optional<CurrentUser> find(String email) {
+        // Caffeine does not store null results, so unknown subjects are never cached
+        return Optional.ofNullable(cache.get(email, key -> userRepository.findByEmail(key)
+                .map(u -> new CurrentUser(u.getId(), u.getEmail(), u.getFullName()))
+                .orElse(null)));
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+        invalidations.publish(CACHE_NAME, email);
+    }
+
+    public void evictAfterCommit(String email) {
+        AfterCommit.run(() -> evict(email));
+    }
+}
@@ -1,11 +1,16 @@
 package com.strideboard.auth;
 
 import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.strideboard.data.user.ChangePasswordRequest;
 import com.strideboard.data.user.User;
@@ -18,77 +23,126 @@ import jakarta.transaction.Transactional;
 public class JpaUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final CurrentUserCache currentUserCache;
+    private final PasswordHashingService passwordHashing;
 
-    public JpaUserDetailsService(UserRepository userRepository) {
+    public JpaUserDetailsService(UserRepository userRepository, CurrentUserCache currentUserCache,
+            PasswordHashingService passwordHashing) {
         this.userRepository = userRepository;
+        this.currentUserCache = currentUserCache;
+        this.passwordHashing = passwordHashing;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         return userRepository.findByEmail(email)
                 .map(user -> org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
-                        .password(user.getPassword()) // Plain text check
+                        .password(user.getPassword()) // {bcrypt} hash, or legacy plain text
                         .authorities(Collections.emptyList())
                         .build())
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
-    public User registerUser(RegisterRequest request) {
+    /**
+     * Verifies credentials on the hashing pool. Legacy plain-text rows are
+     * re-hashed after a successful match; that upgrade is best-effort, so a
+     * full hashing queue or a failed write never fails the login.
+     */
+    public CompletableFuture<User> authenticate(String email, String rawPassword) {
+        User user = userRepository.findByEmail(email).orElse(null);
+        // Unknown emails still pay for a hash so response time doesn't reveal which accounts exist
+        String stored = user != null ? user.getPassword() : passwordHashing.unknownUserHash();
+
+        return passwordHashing.matches(rawPassword, stored).thenCompose(matches -> {
+            if (user == null || !matches) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password");
+            }
+            if (!passwordHashing.needsUpgrade(stored)) {
+                return CompletableFuture.completedFuture(user);
+            }
+            return passwordHashing.encode(rawPassword).thenApplyAsync(hash -> {
+                // Conditional so a password change racing with this login is not overwritten
+                userRepository.replacePassword(user.getId(), stored, hash);
+                return user;
+            }, passwordHashing.storeExecutor()).exceptionally(e -> user);
+        });
+    }
+
+    public CompletableFuture<User> registerUser(RegisterRequest request) {
         // Check if user already exists
         if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new RuntimeException("Email already in use");
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already in use");
         }
 
-        User user = User.builder()
-                .email(request.getEmail())
-                .password(request.getPassword()) //
-                .fullName(request.getFullName())
-                .build();
-
-        return userRepository.save(user);
+        // The insert runs on the store pool, so hashing threads never wait on a database connection
+        return passwordHashing.encode(request.getPassword()).thenApplyAsync(hash -> {
+            User user = User.builder()
+                    .email(request.getEmail())
+                    .password(hash)
+                    .fullName(request.getFullName())
+                    .build();
+
+            try {
+                return userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                // Registered concurrently, after the check above
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already in use");
+            }
+        }, passwordHashing.storeExecutor());
     }
 
-    // Get the current user's info
-    public UserInfo getUserInfo(String email) {
-        User user = userRepository.findByEmail(email)
+    // Get the current user's info; by id, so a token from before an email change still resolves
+    public UserInfo getUserInfo(UUID userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return new UserInfo(user.getFullName(), user.getEmail());
     }
 
     // Update general info (Name/Email)
     @Transactional
-    public UserInfo updateUserInfo(String email, UserInfo request) {
-        User user = userRepository.findByEmail(email)
+    public UserInfo updateUserInfo(UUID userId, UserInfo request) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        String email = user.getEmail();
 
         user.setFullName(request.fullName());
 
         // Only update email if it changed and isn't taken
         if (!user.getEmail().equals(request.email())) {
             if (userRepository.findByEmail(request.email()).isPresent()) {
-                throw new RuntimeException("Email already in use");
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already in use");
             }
             user.setEmail(request.email());
         }
 
         User saved = userRepository.save(user);
+
+        // Cached principal still holds the old name/email
+        currentUserCache.evictAfterCommit(email);
+
         return new UserInfo(saved.getFullName(), saved.getEmail());
     }
 
     // Change Password
-    @Transactional
-    public void changePassword(String email, ChangePasswordRequest request) {
-        User user = userRepository.findByEmail(email)
+    public CompletableFuture<Void> changePassword(UUID userId, ChangePasswordRequest request) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        String stored = user.getPassword();
 
-        // Validate current password (Plain text as per your setup)
-        if (!user.getPassword().equals(request.currentPassword())) {
-            throw new RuntimeException("Current password does not match");
-        }
-
-        // Set new password
-        user.setPassword(request.newPassword());
-        userRepository.save(user);
+        // Validate current password, then hash the new one, both off the request thread
+        return passwordHashing.matches(request.currentPassword(), stored).thenCompose(matches -> {
+            if (!matches) {
+                throw new RuntimeException("Current password does not match");
+            }
+            return passwordHashing.encode(request.newPassword());
+        }).thenApplyAsync(hash -> userRepository.replacePassword(user.getId(), stored, hash),
+                passwordHashing.storeExecutor())
+                .thenAccept(updated -> {
+                    // Another change (or a login upgrading a legacy hash) replaced the password first
+                    if (updated != 1) {
+                        throw new ResponseStatusException(HttpStatus.CONFLICT, "Password was changed concurrently");
+                    }
+                });
     }
 
-}
\ No newline at end of file
+}
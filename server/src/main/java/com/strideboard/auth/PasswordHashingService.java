@@ -0,0 +1,108 @@
+package com.strideboard.auth;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password hashing on a dedicated, bounded pool so adaptive hashes never
+ * occupy servlet threads. When the queue is full, callers get a 503 instead of
+ * piling up behind the CPU-bound work. Database writes that follow a hash run
+ * on a separate small pool, so a slow connection never holds a hashing thread.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor storeExecutor;
+    private final String unknownUserHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-hashing.store-threads:2}") int storeThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.unknownUserHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hashing-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // Unbounded: every task here follows a hash the bounded pool already admitted
+        AtomicInteger storeCounter = new AtomicInteger();
+        this.storeExecutor = new ThreadPoolExecutor(storeThreads, storeThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "password-store-" + storeCounter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        Gauge.builder("strideboard.password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("strideboard.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // For the password writes that follow encode(); keeps JDBC off the hashing threads
+    public Executor storeExecutor() {
+        return storeExecutor;
+    }
+
+    public String unknownUserHash() {
+        return unknownUserHash;
+    }
+
+    // True for legacy plaintext rows and hashes below the configured cost
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent logins"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        storeExecutor.shutdown();
+    }
+}
@@ -0,0 +1,66 @@
+package com.strideboard.auth;
+
+import java.util.List;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates a STOMP session from the bearer token sent with CONNECT, so
+ * /user destinations reach it. The principal's name is the user id, its details
+ * the CurrentUser. Sessions
+ * without a token stay anonymous and cannot follow board topics (see
+ * StompSubscriptionInterceptor).
+ */
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtDecoder jwtDecoder;
+    private final CurrentUserCache currentUserCache;
+
+    public StompAuthenticationInterceptor(JwtDecoder jwtDecoder, CurrentUserCache currentUserCache) {
+        this.jwtDecoder = jwtDecoder;
+        this.currentUserCache = currentUserCache;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+        String header = accessor.getFirstNativeHeader("Authorization");
+        if (header == null || !header.startsWith(BEARER)) {
+            return message;
+        }
+
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(header.substring(BEARER.length()));
+        } catch (JwtException e) {
+            throw new BadCredentialsException("Invalid token", e);
+        }
+        CurrentUser user = TokenClaims.decode(jwt);
+        if (user == null) {
+            user = currentUserCache.find(jwt.getSubject())
+                    .orElseThrow(() -> new BadCredentialsException("User not found"));
+        }
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(jwt, List.of(), user.id().toString());
+        // ProjectPresence shows viewers without looking them up
+        authentication.setDetails(user);
+        accessor.setUser(authentication);
+        return message;
+    }
+}
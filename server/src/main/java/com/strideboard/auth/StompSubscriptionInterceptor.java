@@ -0,0 +1,72 @@
+package com.strideboard.auth;
+
+import java.util.UUID;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.strideboard.data.project.ProjectRepository;
+import com.strideboard.workspace.WorkspaceAccessService;
+
+/**
+ * Lets a STOMP session subscribe to /topic/project/{id} only while its user is a
+ * member of the project's workspace; every other /topic destination is refused.
+ * Runs after StompAuthenticationInterceptor, so the session's CurrentUser is known.
+ * A refused SUBSCRIBE never reaches the broker or ProjectPresence.
+ */
+@Component
+public class StompSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final String TOPIC = "/topic/";
+    private static final String PROJECT_TOPIC = "/topic/project/";
+
+    private final ProjectRepository projectRepository;
+    private final WorkspaceAccessService workspaceAccess;
+
+    public StompSubscriptionInterceptor(ProjectRepository projectRepository, WorkspaceAccessService workspaceAccess) {
+        this.projectRepository = projectRepository;
+        this.workspaceAccess = workspaceAccess;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(TOPIC)) {
+            // /user/queue/... only ever reaches the subscribing user's own sessions
+            return message;
+        }
+        if (!(accessor.getUser() instanceof Authentication auth && auth.getDetails() instanceof CurrentUser user)) {
+            throw new AccessDeniedException("Sign in to follow a board");
+        }
+        UUID projectId = projectOf(destination);
+        boolean allowed = projectId != null && projectRepository.findWorkspaceId(projectId)
+                .filter(workspaceId -> workspaceAccess.isMember(user, workspaceId))
+                .isPresent();
+        if (!allowed) {
+            throw new AccessDeniedException("Not a member of this board's workspace");
+        }
+        return message;
+    }
+
+    private static UUID projectOf(String destination) {
+        if (!destination.startsWith(PROJECT_TOPIC)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(PROJECT_TOPIC.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
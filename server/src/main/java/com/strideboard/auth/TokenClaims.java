@@ -0,0 +1,67 @@
+package com.strideboard.auth;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.strideboard.data.workspace.MembershipRole;
+
+/**
+ * Custom claim names and the compact role encoding used in access tokens.
+ * Roles are written as their first letter: A(DMIN), M(EMBER), V(IEWER).
+ */
+final class TokenClaims {
+
+    static final String USER_ID = "uid";
+    static final String NAME = "name";
+    static final String WORKSPACE_ROLES = "ws";
+    static final String MEMBERSHIP_EPOCH = "mep";
+
+    private TokenClaims() {
+    }
+
+    static Map<String, String> encodeRoles(List<MembershipRole> memberships) {
+        Map<String, String> encoded = new HashMap<>();
+        for (MembershipRole m : memberships) {
+            encoded.put(m.workspaceId().toString(), m.role().substring(0, 1).toUpperCase());
+        }
+        return encoded;
+    }
+
+    // Returns null for tokens issued before these claims existed
+    static CurrentUser decode(Jwt jwt) {
+        String userId = jwt.getClaimAsString(USER_ID);
+        if (userId == null) {
+            return null;
+        }
+
+        Map<String, Object> rawRoles = jwt.getClaimAsMap(WORKSPACE_ROLES);
+        Object epoch = jwt.getClaims().get(MEMBERSHIP_EPOCH);
+
+        Map<UUID, String> roles = null;
+        if (rawRoles != null && epoch instanceof Number) {
+            roles = new HashMap<>();
+            for (Map.Entry<String, Object> entry : rawRoles.entrySet()) {
+                roles.put(UUID.fromString(entry.getKey()), decodeRole(String.valueOf(entry.getValue())));
+            }
+        }
+
+        return new CurrentUser(
+                UUID.fromString(userId),
+                jwt.getSubject(),
+                jwt.getClaimAsString(NAME),
+                roles,
+                roles != null ? ((Number) epoch).longValue() : null);
+    }
+
+    private static String decodeRole(String code) {
+        return switch (code) {
+            case "A" -> "ADMIN";
+            case "M" -> "MEMBER";
+            default -> "VIEWER";
+        };
+    }
+}
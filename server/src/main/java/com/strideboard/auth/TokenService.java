@@ -4,27 +4,49 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.strideboard.data.user.User;
+import com.strideboard.data.user.UserRepository;
+import com.strideboard.data.workspace.MembershipRepository;
 
 @Service
 public class TokenService {
     private final JwtEncoder encoder;
+    private final UserRepository userRepository;
+    private final MembershipRepository membershipRepository;
 
-    public TokenService(JwtEncoder encoder) {
+    public TokenService(JwtEncoder encoder, UserRepository userRepository,
+            MembershipRepository membershipRepository) {
         this.encoder = encoder;
+        this.userRepository = userRepository;
+        this.membershipRepository = membershipRepository;
     }
 
+    @Transactional(readOnly = true)
     public String generateToken(Authentication authentication) {
+        // Read the epoch before the memberships: a change landing in between leaves the
+        // token with an older epoch, so its role claims are ignored rather than trusted
+        User user = userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
         Instant now = Instant.now();
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("strideboard")
                 .issuedAt(now)
                 .expiresAt(now.plus(24, ChronoUnit.HOURS)) // expires hourly form
-                .subject(authentication.getName())
+                .subject(user.getEmail())
+                .claim(TokenClaims.USER_ID, user.getId().toString())
+                .claim(TokenClaims.NAME, user.getFullName() != null ? user.getFullName() : "")
+                .claim(TokenClaims.MEMBERSHIP_EPOCH, user.getMembershipEpoch())
+                .claim(TokenClaims.WORKSPACE_ROLES,
+                        TokenClaims.encodeRoles(membershipRepository.findRolesByUserId(user.getId())))
                 .build();
         return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.strideboard.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers side effects of a write until the surrounding transaction commits: cache
+ * invalidation (earlier lets a concurrent request re-cache the old row), board
+ * broadcasts and user notifications (a rollback must not announce anything),
+ * activity log entries and PositionRebalancer marks. Without an active transaction
+ * the action runs immediately. An exception thrown by the action reaches the caller
+ * of commit, so actions hand slow or fallible work to their own executors.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
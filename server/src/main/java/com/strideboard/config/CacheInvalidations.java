@@ -0,0 +1,55 @@
+package com.strideboard.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries local cache evictions to the other server nodes, so a membership or profile
+ * change made on one node does not stay stale on the others for a full TTL. Caches
+ * register a handler per cache name and publish after their own (post-commit) eviction.
+ * In cluster mode ClusterEventRelay attaches as the transport and hands remote
+ * evictions to {@link #receive}; on a single node publish does nothing. When the
+ * relay may have missed evictions it calls {@link #clearAll}, which empties every
+ * registered cache.
+ */
+@Component
+public class CacheInvalidations {
+
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+    private final Map<String, Runnable> clears = new ConcurrentHashMap<>();
+    private volatile BiConsumer<String, String> transport;
+
+    // handler evicts one key; clear empties the whole cache
+    public void register(String cache, Consumer<String> handler, Runnable clear) {
+        handlers.put(cache, handler);
+        clears.put(cache, clear);
+    }
+
+    public void publish(String cache, String key) {
+        BiConsumer<String, String> current = transport;
+        if (current != null) {
+            current.accept(cache, key);
+        }
+    }
+
+    public void attach(BiConsumer<String, String> transport) {
+        this.transport = transport;
+    }
+
+    // Evictions from other nodes may have been lost; entries reload from the database
+    public void clearAll() {
+        clears.values().forEach(Runnable::run);
+    }
+
+    // An eviction made on another node; never published again
+    public void receive(String cache, String key) {
+        Consumer<String> handler = handlers.get(cache);
+        if (handler != null) {
+            handler.accept(key);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.strideboard.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Memoises successfully verified tokens so repeat requests with the same
+ * bearer token skip the RSA signature check. Entries are keyed by a SHA-256
+ * digest of the raw token and never outlive the token's exp claim.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.hits = Counter.builder("strideboard.jwt.decode")
+                .tag("cache", "hit")
+                .description("Bearer tokens served from the verified-token cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("strideboard.jwt.decode")
+                .tag("cache", "miss")
+                .description("Bearer tokens that required full signature verification")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("strideboard.jwt.cache.size", List.of(), cache.asMap());
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = digest(token);
+
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt().isAfter(Instant.now())) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        Jwt jwt = delegate.decode(token); // throws on bad signature / expired token
+
+        // Tokens without exp would otherwise live until size eviction
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, Jwt> {
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            long remaining = Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos();
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.strideboard.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+
+/**
+ * Entity tags for conditional GETs. Values are unquoted; WebRequest.checkNotModified
+ * adds the quotes and writes the ETag header. Tagged responses (and their 304s)
+ * must carry {@link #REVALIDATE}: otherwise Spring Security adds no-store and the
+ * browser never keeps a copy to revalidate.
+ */
+public final class ETags {
+
+    // Browser may store the response but must check the tag before every reuse
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    public static String ofVersion(Object id, long version) {
+        return id + "-" + version;
+    }
+
+    // Hash of the records' toString(); callers must pass a stable order
+    public static String ofRecords(List<? extends Record> records) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (Record r : records) {
+                md.update(r.toString().getBytes(StandardCharsets.UTF_8));
+                md.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(md.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
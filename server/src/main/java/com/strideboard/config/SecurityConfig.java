@@ -1,6 +1,8 @@
 package com.strideboard.config;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -8,6 +10,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
@@ -25,6 +29,9 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.strideboard.auth.CurrentUserArgumentResolver;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class SecurityConfig {
@@ -46,6 +53,8 @@ public class SecurityConfig {
         configuration.setAllowCredentials(true);
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PATCH", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        // Lets the browser client see that its role claims need a refresh
+        configuration.setExposedHeaders(Arrays.asList(CurrentUserArgumentResolver.STALE_TOKEN_HEADER));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -59,26 +68,37 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // public ones here
                         .requestMatchers("/api/auth/register").permitAll()
+                        // AuthController checks Basic credentials itself, on the hashing pool
+                        .requestMatchers("/api/auth/login").permitAll()
                         
-                        .requestMatchers("/ws/**").permitAll()
+                        .requestMatchers("/ws/**", "/ws-native").permitAll()
 
                         .anyRequest().authenticated())
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .httpBasic(Customizer.withDefaults())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .build();
     }
 
     @Bean
     @SuppressWarnings("deprecation")
-    public PasswordEncoder passwordEncoder() {
-        return NoOpPasswordEncoder.getInstance(); // No hashing
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt-strength:10}") int strength) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(strength));
+        encoders.put("noop", NoOpPasswordEncoder.getInstance());
+
+        // Rows without an {id} prefix are legacy plain text; they are re-hashed on next login
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", encoders);
+        encoder.setDefaultPasswordEncoderForMatches(NoOpPasswordEncoder.getInstance());
+        return encoder;
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.publicKey()).build();
+    JwtDecoder jwtDecoder(MeterRegistry meterRegistry,
+            @Value("${app.cache.jwt.max-size:10000}") long maxSize) {
+        // RSA verification runs once per distinct token, not once per request
+        return new CachingJwtDecoder(NimbusJwtDecoder.withPublicKey(rsaKeys.publicKey()).build(), maxSize,
+                meterRegistry);
     }
 
     @Bean
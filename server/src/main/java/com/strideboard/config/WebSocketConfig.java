@@ -1,20 +1,69 @@
 package com.strideboard.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.strideboard.auth.StompAuthenticationInterceptor;
+import com.strideboard.auth.StompSubscriptionInterceptor;
+import com.strideboard.realtime.BinaryFrameEncoding;
+import com.strideboard.realtime.BoardEventResume;
+import com.strideboard.realtime.ProjectPresence;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthenticationInterceptor authenticationInterceptor;
+    private final StompSubscriptionInterceptor subscriptionInterceptor;
+    private final ProjectPresence presence;
+    private final BoardEventResume resume;
+    private final BinaryFrameEncoding binaryFrames;
+
+    @Value("${app.realtime.session.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    @Value("${app.realtime.session.send-buffer-limit:512KB}")
+    private DataSize sendBufferLimit;
+
+    @Value("${app.realtime.presence.heartbeat:10s}")
+    private Duration heartbeat;
+
+    public WebSocketConfig(StompAuthenticationInterceptor authenticationInterceptor,
+            StompSubscriptionInterceptor subscriptionInterceptor, ProjectPresence presence,
+            BoardEventResume resume, BinaryFrameEncoding binaryFrames) {
+        this.authenticationInterceptor = authenticationInterceptor;
+        this.subscriptionInterceptor = subscriptionInterceptor;
+        this.presence = presence;
+        this.resume = resume;
+        this.binaryFrames = binaryFrames;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        // Heartbeats both ways let ProjectPresence notice sessions that died without a DISCONNECT
+        ThreadPoolTaskScheduler heartbeats = new ThreadPoolTaskScheduler();
+        heartbeats.setPoolSize(1);
+        heartbeats.setThreadNamePrefix("ws-heartbeat-");
+        heartbeats.initialize();
         // carry messages back to the connected client
-        config.enableSimpleBroker("/topic");
+        // /topic: project boards; /queue: per-user messages, addressed as /user/queue/...
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[] { heartbeat.toMillis(), heartbeat.toMillis() })
+                .setTaskScheduler(heartbeats);
         // client send to server
         config.setApplicationDestinationPrefixes("/app");
+        // Frames reach each session in the order they were sent, matching their seq headers
+        config.setPreservePublishOrder(true);
     }
 
     @Override
@@ -22,5 +71,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*") 
                 .withSockJS();
+        // Plain WebSocket, no SockJS fallback; the only endpoint that can negotiate CBOR frames
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(binaryFrames);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // Order matters: who the session is, whether it may subscribe, then presence and resume
+        registration.interceptors(authenticationInterceptor, subscriptionInterceptor, presence, resume,
+                binaryFrames);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(binaryFrames);
+    }
+
+    // Each session buffers what it cannot take yet; a client that stays behind past either
+    // limit is disconnected and resyncs on reconnect, so it never holds up the other sessions
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis());
+        registration.setSendBufferSizeLimit((int) sendBufferLimit.toBytes());
     }
 }
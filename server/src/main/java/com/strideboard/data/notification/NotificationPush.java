@@ -0,0 +1,5 @@
+package com.strideboard.data.notification;
+
+// Sent to /user/queue/notifications when a notification is created; unreadCount includes it
+public record NotificationPush(InboxItem notification, long unreadCount) {
+}
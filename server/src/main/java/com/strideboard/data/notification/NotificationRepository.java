@@ -9,5 +9,9 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     // Fetch notifications for a specific user, ordered by most recent
     List<Notification> findByRecipientIdOrderByCreatedAtDesc(UUID recipientId);
 
+    boolean existsByRecipientId(UUID recipientId);
+
+    long countByRecipientId(UUID recipientId);
+
     boolean existsByRecipientIdAndWorkspaceIdAndType(UUID recipientId, UUID workspaceId, NotificationType type);
 }
@@ -0,0 +1,4 @@
+package com.strideboard.data.project;
+
+public record BoardSyncState(long boardVersion, long tombstoneFloor) {
+}
@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.strideboard.data.user.User;
 import com.strideboard.data.workitem.WorkItem;
@@ -15,13 +17,12 @@ import com.strideboard.data.workspace.Workspace;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -38,7 +39,7 @@ import lombok.Setter;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @Column(nullable = false)
@@ -61,10 +62,32 @@ public class Project {
     @JsonIgnore
     private User creator;
 
+    // Counters below are only written by ProjectRepository bulk updates, never by entity flushes
+
+    // Bumped on every work item write; used as the board ETag
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private long boardVersion;
+
+    // Tombstones at or below this board version have been pruned
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private long tombstoneFloor;
+
+    // Highest position handed out by PositionAllocator; null until first allocation
+    @JsonIgnore
+    @Column(insertable = false, updatable = false)
+    private Double positionTail;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore // Important to prevent infinite recursion in JSON
     private List<WorkItem> workItems;
 
+    // Filled in by the workspace project listing; absent elsewhere
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ProjectStats stats;
+
     @JsonProperty("workspaceId")
     public UUID getWorkspaceId() {
         return workspace != null ? workspace.getId() : null;
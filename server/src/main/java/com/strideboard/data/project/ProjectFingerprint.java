@@ -0,0 +1,8 @@
+package com.strideboard.data.project;
+
+import java.util.UUID;
+
+// Fields of a project that appear in the workspace listing; hashed into its ETag.
+// boardVersion stands in for the work item counters, which change with every board write.
+public record ProjectFingerprint(UUID id, String name, String description, long boardVersion) {
+}
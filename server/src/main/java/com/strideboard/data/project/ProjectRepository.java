@@ -1,12 +1,61 @@
 package com.strideboard.data.project;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
     List<Project> findByWorkspace_Id(UUID workspaceId);
+
+    // Empty when the project does not exist or belongs to another workspace
+    @Query("SELECT p.boardVersion FROM Project p WHERE p.id = :projectId AND p.workspace.id = :workspaceId")
+    Optional<Long> findBoardVersion(@Param("projectId") UUID projectId, @Param("workspaceId") UUID workspaceId);
+
+    @Query("SELECT new com.strideboard.data.project.BoardSyncState(p.boardVersion, p.tombstoneFloor)"
+            + " FROM Project p WHERE p.id = :projectId AND p.workspace.id = :workspaceId")
+    Optional<BoardSyncState> findSyncState(@Param("projectId") UUID projectId, @Param("workspaceId") UUID workspaceId);
+
+    // Empty when the project does not exist
+    @Query("SELECT p.workspace.id FROM Project p WHERE p.id = :projectId")
+    Optional<UUID> findWorkspaceId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT p.boardVersion FROM Project p WHERE p.id = :projectId")
+    long getBoardVersion(@Param("projectId") UUID projectId);
+
+    // Locks the project row until commit, so versions are handed out in commit order
+    @Modifying
+    @Query("UPDATE Project p SET p.boardVersion = p.boardVersion + 1 WHERE p.id = :projectId")
+    int incrementBoardVersion(@Param("projectId") UUID projectId);
+
+    // Seeds the tail from MAX(position) on first use, then only moves it forward
+    @Modifying
+    @Query(value = "UPDATE projects SET position_tail = COALESCE(position_tail,"
+            + " (SELECT MAX(w.position) FROM work_items w WHERE w.project_id = :projectId), 0) + :span"
+            + " WHERE id = :projectId", nativeQuery = true)
+    int advancePositionTail(@Param("projectId") UUID projectId, @Param("span") double span);
+
+    // Keeps the tail ahead of positions written by clients (drag to the end of a column)
+    @Modifying
+    @Query(value = "UPDATE projects SET position_tail = :position"
+            + " WHERE id = :projectId AND position_tail < :position", nativeQuery = true)
+    int raisePositionTail(@Param("projectId") UUID projectId, @Param("position") double position);
+
+    @Modifying
+    @Query(value = "UPDATE projects SET position_tail = :position WHERE id = :projectId", nativeQuery = true)
+    int resetPositionTail(@Param("projectId") UUID projectId, @Param("position") double position);
+
+    @Query("SELECT p.positionTail FROM Project p WHERE p.id = :projectId")
+    double getPositionTail(@Param("projectId") UUID projectId);
+
+    @Query("SELECT new com.strideboard.data.project.ProjectFingerprint(p.id, p.name, p.description,"
+            + " p.boardVersion)"
+            + " FROM Project p WHERE p.workspace.id = :workspaceId ORDER BY p.id")
+    List<ProjectFingerprint> findFingerprintsByWorkspaceId(@Param("workspaceId") UUID workspaceId);
 }
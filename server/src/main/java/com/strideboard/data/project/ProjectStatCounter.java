@@ -0,0 +1,49 @@
+package com.strideboard.data.project;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One work item count of a project, keyed by bucket ("total", "status:TODO", ...;
+ * see ProjectStats). Only written by ProjectStatsRepository statements; no FK to
+ * projects so the repair job can drop counters of deleted projects on its own.
+ */
+@Entity
+@Table(name = "project_stats")
+@IdClass(ProjectStatCounter.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatCounter {
+
+    @Id
+    private UUID projectId;
+
+    @Id
+    private String bucket;
+
+    @Column(nullable = false)
+    private long count;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID projectId;
+        private String bucket;
+    }
+}
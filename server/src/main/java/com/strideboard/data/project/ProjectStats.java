@@ -0,0 +1,104 @@
+package com.strideboard.data.project;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.strideboard.data.workitem.WorkItem;
+import com.strideboard.data.workitem.WorkItemPriority;
+import com.strideboard.data.workitem.WorkItemState;
+import com.strideboard.data.workitem.WorkItemStatus;
+import com.strideboard.data.workitem.WorkItemType;
+
+/**
+ * Work item counts of one project. Every enum value is present, zero when unused.
+ * Bucket names here must match the ones ProjectStatsRepository recomputes in SQL.
+ */
+public record ProjectStats(
+        long total,
+        Map<WorkItemStatus, Long> byStatus,
+        Map<WorkItemPriority, Long> byPriority,
+        Map<WorkItemType, Long> byType,
+        long assigned,
+        long unassigned) {
+
+    public static final String TOTAL = "total";
+    public static final String STATUS = "status:";
+    public static final String PRIORITY = "priority:";
+    public static final String TYPE = "type:";
+    public static final String ASSIGNED = "assignee:assigned";
+    public static final String UNASSIGNED = "assignee:unassigned";
+
+    public static List<String> bucketsOf(WorkItem item) {
+        return bucketsOf(item.getStatus(), item.getPriority(), item.getType(), item.getAssignee() != null);
+    }
+
+    public static List<String> bucketsOf(WorkItemState state) {
+        return bucketsOf(state.status(), state.priority(), state.type(), state.assigneeId() != null);
+    }
+
+    // Buckets an item counts towards; null enums are counted in total only
+    private static List<String> bucketsOf(WorkItemStatus status, WorkItemPriority priority, WorkItemType type,
+            boolean assigned) {
+        List<String> buckets = new ArrayList<>(5);
+        buckets.add(TOTAL);
+        if (status != null) {
+            buckets.add(STATUS + status.name());
+        }
+        if (priority != null) {
+            buckets.add(PRIORITY + priority.name());
+        }
+        if (type != null) {
+            buckets.add(TYPE + type.name());
+        }
+        buckets.add(assigned ? ASSIGNED : UNASSIGNED);
+        return buckets;
+    }
+
+    public static ProjectStats from(Collection<ProjectStatCounter> counters) {
+        Map<WorkItemStatus, Long> byStatus = zeroed(WorkItemStatus.class);
+        Map<WorkItemPriority, Long> byPriority = zeroed(WorkItemPriority.class);
+        Map<WorkItemType, Long> byType = zeroed(WorkItemType.class);
+        long total = 0;
+        long assigned = 0;
+        long unassigned = 0;
+
+        for (ProjectStatCounter counter : counters) {
+            String bucket = counter.getBucket();
+            long count = counter.getCount();
+            if (bucket.equals(TOTAL)) {
+                total = count;
+            } else if (bucket.equals(ASSIGNED)) {
+                assigned = count;
+            } else if (bucket.equals(UNASSIGNED)) {
+                unassigned = count;
+            } else if (bucket.startsWith(STATUS)) {
+                put(byStatus, WorkItemStatus.class, bucket.substring(STATUS.length()), count);
+            } else if (bucket.startsWith(PRIORITY)) {
+                put(byPriority, WorkItemPriority.class, bucket.substring(PRIORITY.length()), count);
+            } else if (bucket.startsWith(TYPE)) {
+                put(byType, WorkItemType.class, bucket.substring(TYPE.length()), count);
+            }
+        }
+        return new ProjectStats(total, byStatus, byPriority, byType, assigned, unassigned);
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroed(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        return counts;
+    }
+
+    // Buckets for enum values that no longer exist are ignored until the next repair
+    private static <E extends Enum<E>> void put(Map<E, Long> counts, Class<E> type, String name, long count) {
+        try {
+            counts.put(Enum.valueOf(type, name), count);
+        } catch (IllegalArgumentException e) {
+            // unknown value
+        }
+    }
+}
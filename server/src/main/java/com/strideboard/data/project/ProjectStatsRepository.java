@@ -0,0 +1,56 @@
+package com.strideboard.data.project;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectStatsRepository extends JpaRepository<ProjectStatCounter, ProjectStatCounter.Key> {
+
+    // Counters as recomputed from work_items; bucket names must match ProjectStats
+    String ACTUAL_COUNTS = "SELECT project_id, 'total' AS bucket, count(*) AS count FROM work_items"
+            + " GROUP BY project_id"
+            + " UNION ALL SELECT project_id, 'status:' || status, count(*) FROM work_items"
+            + " WHERE status IS NOT NULL GROUP BY project_id, status"
+            + " UNION ALL SELECT project_id, 'priority:' || priority, count(*) FROM work_items"
+            + " WHERE priority IS NOT NULL GROUP BY project_id, priority"
+            + " UNION ALL SELECT project_id, 'type:' || type, count(*) FROM work_items"
+            + " WHERE type IS NOT NULL GROUP BY project_id, type"
+            + " UNION ALL SELECT project_id, CASE WHEN assignee_id IS NULL THEN 'assignee:unassigned'"
+            + " ELSE 'assignee:assigned' END, count(*) FROM work_items"
+            + " GROUP BY project_id, assignee_id IS NULL";
+
+    List<ProjectStatCounter> findByProjectId(UUID projectId);
+
+    List<ProjectStatCounter> findByProjectIdIn(Collection<UUID> projectIds);
+
+    // Callers hold the project row lock (board version bump), so deltas never interleave
+    @Modifying
+    @Query(value = "INSERT INTO project_stats (project_id, bucket, count) VALUES (:projectId, :bucket, :delta)"
+            + " ON CONFLICT (project_id, bucket) DO UPDATE SET count = project_stats.count + EXCLUDED.count",
+            nativeQuery = true)
+    int addToCounter(@Param("projectId") UUID projectId, @Param("bucket") String bucket, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ProjectStatCounter s WHERE s.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_stats (project_id, bucket, count)"
+            + " SELECT project_id, bucket, count FROM (" + ACTUAL_COUNTS + ") a WHERE a.project_id = :projectId",
+            nativeQuery = true)
+    int recompute(@Param("projectId") UUID projectId);
+
+    // Projects whose stored counters differ from work_items; zero counters count as absent
+    @Query(value = "SELECT DISTINCT COALESCE(a.project_id, s.project_id) FROM (" + ACTUAL_COUNTS + ") a"
+            + " FULL JOIN (SELECT project_id, bucket, count FROM project_stats WHERE count <> 0) s"
+            + " ON s.project_id = a.project_id AND s.bucket = a.bucket"
+            + " WHERE a.count IS DISTINCT FROM s.count", nativeQuery = true)
+    List<UUID> findDriftedProjectIds();
+}
@@ -0,0 +1,37 @@
+package com.strideboard.data.realtime;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A relayed event too large for a NOTIFY payload, fetched by id on the other nodes.
+ * Written, read and pruned with plain SQL by ClusterEventRelay; mapped here so the
+ * table is created and updated with the rest of the schema.
+ */
+@Entity
+@Table(name = "realtime_events", indexes = {
+        @Index(name = "idx_realtime_events_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor
+public class RealtimeEvent {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // Set by the database; the relay's INSERT leaves it out
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "timestamp not null default now()")
+    private LocalDateTime createdAt;
+}
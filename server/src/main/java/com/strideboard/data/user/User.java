@@ -3,14 +3,15 @@ package com.strideboard.data.user;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.UuidGenerator;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.strideboard.data.workspace.Membership;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -27,19 +28,27 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" }) // creator may be a getReferenceById proxy
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @Column(unique = true, nullable = false)
     private String email;
 
+    @JsonIgnore
     @Column(nullable = false)
-    private String password; // Plain text for now
+    private String password; // {bcrypt} hash; legacy rows are plain text until next login
 
     private String fullName;
 
+    // Bumped on every membership change; tokens issued at an older epoch lose their role claims.
+    // Only written by UserRepository.incrementMembershipEpoch.
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private long membershipEpoch;
+
     @JsonIgnore
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Membership> memberships;
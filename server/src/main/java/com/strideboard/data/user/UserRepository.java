@@ -1,7 +1,12 @@
 package com.strideboard.data.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,4 +15,18 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     List<User> findByEmailContainingIgnoreCase(String email);
+
+    @Query("SELECT u.membershipEpoch FROM User u WHERE u.id = :id")
+    Optional<Long> findMembershipEpochById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.membershipEpoch = u.membershipEpoch + 1 WHERE u.id IN :ids")
+    int incrementMembershipEpoch(@Param("ids") Collection<UUID> ids);
+
+    // Compare-and-set, used off the request thread once a new hash is ready
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int replacePassword(@Param("id") UUID id, @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword);
 }
\ No newline at end of file
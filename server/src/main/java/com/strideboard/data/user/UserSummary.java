@@ -0,0 +1,11 @@
+package com.strideboard.data.user;
+
+import java.util.UUID;
+
+// What boards show about a user; never a Hibernate proxy
+public record UserSummary(UUID id, String email, String fullName) {
+
+    public static UserSummary from(User user) {
+        return user != null ? new UserSummary(user.getId(), user.getEmail(), user.getFullName()) : null;
+    }
+}
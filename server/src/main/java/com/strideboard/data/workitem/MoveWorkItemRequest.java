@@ -0,0 +1,8 @@
+package com.strideboard.data.workitem;
+
+// Drag-and-drop: at least one of status and position. version as in UpdateWorkItemRequest
+public record MoveWorkItemRequest(
+        WorkItemStatus status,
+        Double position,
+        Long version) {
+}
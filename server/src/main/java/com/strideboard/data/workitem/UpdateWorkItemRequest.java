@@ -2,6 +2,7 @@ package com.strideboard.data.workitem;
 
 import java.util.UUID;
 
+// Null fields are left unchanged. version, when sent, must match or the update is rejected with 409
 public record UpdateWorkItemRequest(
         String title,
         String description,
@@ -10,5 +11,6 @@ public record UpdateWorkItemRequest(
         WorkItemType type,
         UUID assigneeId,
         Double position,
-        Boolean removeAssignee) {
+        Boolean removeAssignee,
+        Long version) {
 }
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -16,12 +17,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,7 +30,24 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "work_items")
+@Table(name = "work_items", indexes = {
+        @Index(name = "idx_work_items_project_position", columnList = "project_id, position, id"),
+        @Index(name = "idx_work_items_project_version", columnList = "project_id, board_version"),
+        // Filtered listings: equality columns first, then the default (position, id) order
+        @Index(name = "idx_work_items_project_status_position", columnList = "project_id, status, position, id"),
+        @Index(name = "idx_work_items_project_assignee_position", columnList = "project_id, assignee_id, position, id"),
+        @Index(name = "idx_work_items_project_priority_position", columnList = "project_id, priority, position, id"),
+        @Index(name = "idx_work_items_project_type_position", columnList = "project_id, type, position, id"),
+        // Unfiltered sorts
+        @Index(name = "idx_work_items_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_work_items_project_updated", columnList = "project_id, updated_at, id"),
+        @Index(name = "idx_work_items_project_priority_rank", columnList = "project_id, priority_rank, id"),
+        // Sorts within one status column and within one assignee ("my items"); see WorkItemSort
+        @Index(name = "idx_work_items_project_status_created", columnList = "project_id, status, created_at, id"),
+        @Index(name = "idx_work_items_project_status_updated", columnList = "project_id, status, updated_at, id"),
+        @Index(name = "idx_work_items_project_status_priority", columnList = "project_id, status, priority_rank, id"),
+        @Index(name = "idx_work_items_project_assignee_updated", columnList = "project_id, assignee_id, updated_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,7 +56,8 @@ import lombok.Setter;
 public class WorkItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    // Time-ordered (RFC 9562 v7), so inserts land at the right edge of the primary-key index
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @Column(nullable = false)
@@ -61,6 +80,12 @@ public class WorkItem {
     @Enumerated(EnumType.STRING)
     private WorkItemType type; // TASK, BUG, EPIC
 
+    // LOW=0 .. URGENT=3, computed by Postgres so the priority sort can use an index
+    @JsonIgnore
+    @Column(insertable = false, updatable = false, columnDefinition = "smallint generated always as (case priority"
+            + " when 'LOW' then 0 when 'MEDIUM' then 1 when 'HIGH' then 2 when 'URGENT' then 3 end) stored")
+    private Short priorityRank;
+
     /**
      * Position used for Drag and Drop ordering within a column.
      * Using Double allows for easy re-ordering (averaging positions).
@@ -68,6 +93,15 @@ public class WorkItem {
     @Column(nullable = false)
     private Double position;
 
+    // Project board version of this item's last write; drives delta sync
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long boardVersion;
+
+    // Optimistic lock: bumped by entity flushes and by WorkItemRepository.updateColumns/renumberPositions
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -75,6 +109,11 @@ public class WorkItem {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Copy of the project's workspace id, so workspace search filters without a join
+    @JsonIgnore
+    @Column(updatable = false)
+    private UUID workspaceId;
+
     // Relations
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
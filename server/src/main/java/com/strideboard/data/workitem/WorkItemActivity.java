@@ -0,0 +1,81 @@
+package com.strideboard.data.workitem;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.strideboard.data.id.UuidV7;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a work item's history: the item was created or deleted, or one field
+ * changed from oldValue to newValue. Append-only and written in JDBC batches by
+ * WorkItemActivityLog; no FKs, so history outlives the item.
+ */
+@Entity
+@Table(name = "work_item_activity", indexes = {
+        @Index(name = "idx_work_item_activity_item", columnList = "work_item_id, occurred_at, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemActivity {
+
+    public enum Action {
+        CREATED, UPDATED, MOVED, DELETED
+    }
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID workItemId;
+
+    @Column(nullable = false)
+    private UUID projectId;
+
+    private UUID actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Action action;
+
+    // Null for CREATED and DELETED
+    private String field;
+
+    @Column(columnDefinition = "TEXT")
+    private String oldValue;
+
+    @Column(columnDefinition = "TEXT")
+    private String newValue;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    public static WorkItemActivity of(UUID workItemId, UUID projectId, UUID actorId, Action action) {
+        return new WorkItemActivity(UuidV7.next(), workItemId, projectId, actorId, action, null, null, null,
+                LocalDateTime.now());
+    }
+
+    // Null when the value did not actually change
+    public static WorkItemActivity change(UUID workItemId, UUID projectId, UUID actorId, Action action,
+            String field, Object oldValue, Object newValue) {
+        if (Objects.equals(oldValue, newValue)) {
+            return null;
+        }
+        return new WorkItemActivity(UuidV7.next(), workItemId, projectId, actorId, action, field,
+                oldValue != null ? oldValue.toString() : null,
+                newValue != null ? newValue.toString() : null,
+                LocalDateTime.now());
+    }
+}
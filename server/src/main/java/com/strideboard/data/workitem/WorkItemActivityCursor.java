@@ -0,0 +1,35 @@
+package com.strideboard.data.workitem;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+// Keyset position in a work item's history (newest first); opaque to clients like WorkItemCursor
+public record WorkItemActivityCursor(LocalDateTime occurredAt, UUID id) {
+
+    public String encode() {
+        String raw = occurredAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WorkItemActivityCursor of(WorkItemActivity activity) {
+        return new WorkItemActivityCursor(activity.getOccurredAt(), activity.getId());
+    }
+
+    // Throws IllegalArgumentException for tokens we did not issue
+    public static WorkItemActivityCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        try {
+            return new WorkItemActivityCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.strideboard.data.workitem;
+
+import java.util.List;
+
+// Newest first; nextCursor is null on the last page
+public record WorkItemActivityPage(List<WorkItemActivity> items, String nextCursor) {
+}
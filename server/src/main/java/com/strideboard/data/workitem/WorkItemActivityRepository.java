@@ -0,0 +1,28 @@
+package com.strideboard.data.workitem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+// Reads only; inserts go through WorkItemActivityLog's JDBC batches
+@Repository
+public interface WorkItemActivityRepository extends JpaRepository<WorkItemActivity, UUID> {
+
+    // Keyset pagination on (occurredAt, id) descending; served by idx_work_item_activity_item
+    @Query("SELECT a FROM WorkItemActivity a WHERE a.workItemId = :workItemId AND a.projectId = :projectId"
+            + " ORDER BY a.occurredAt DESC, a.id DESC")
+    List<WorkItemActivity> findFirstPage(@Param("workItemId") UUID workItemId, @Param("projectId") UUID projectId,
+            Limit limit);
+
+    @Query("SELECT a FROM WorkItemActivity a WHERE a.workItemId = :workItemId AND a.projectId = :projectId"
+            + " AND (a.occurredAt < :occurredAt OR (a.occurredAt = :occurredAt AND a.id < :id))"
+            + " ORDER BY a.occurredAt DESC, a.id DESC")
+    List<WorkItemActivity> findPageBefore(@Param("workItemId") UUID workItemId, @Param("projectId") UUID projectId,
+            @Param("occurredAt") LocalDateTime occurredAt, @Param("id") UUID id, Limit limit);
+}
@@ -0,0 +1,6 @@
+package com.strideboard.data.workitem;
+
+import java.util.List;
+
+public record WorkItemBatchRequest(List<WorkItemOperation> operations) {
+}
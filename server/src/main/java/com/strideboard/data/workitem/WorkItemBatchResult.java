@@ -0,0 +1,8 @@
+package com.strideboard.data.workitem;
+
+import java.util.List;
+import java.util.UUID;
+
+// items holds created/updated/moved items in request order
+public record WorkItemBatchResult(long version, List<WorkItemView> items, List<UUID> deletedIds) {
+}
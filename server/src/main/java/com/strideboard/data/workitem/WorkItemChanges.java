@@ -0,0 +1,11 @@
+package com.strideboard.data.workitem;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delta since a board version. When resyncRequired is set the lists are empty
+ * and the client must reload the full board (its watermark predates pruned tombstones).
+ */
+public record WorkItemChanges(long version, boolean resyncRequired, List<WorkItemView> items, List<UUID> deletedIds) {
+}
@@ -0,0 +1,32 @@
+package com.strideboard.data.workitem;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last item on a page. Encoded as an opaque,
+ * URL-safe token so clients never build cursors themselves.
+ */
+public record WorkItemCursor(double position, UUID id) {
+
+    public String encode() {
+        String raw = Double.toString(position) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WorkItemCursor of(WorkItemView item) {
+        return new WorkItemCursor(item.position(), item.id());
+    }
+
+    // Throws IllegalArgumentException for tokens we did not issue
+    public static WorkItemCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new WorkItemCursor(Double.parseDouble(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)));
+    }
+}
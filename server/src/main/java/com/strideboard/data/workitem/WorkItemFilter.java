@@ -0,0 +1,29 @@
+package com.strideboard.data.workitem;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Server-side board filter. Empty lists and null fields match everything; values
+ * within one field are OR-ed, fields are AND-ed. unassigned matches items with no
+ * assignee and combines with assigneeIds as "any of these people, or nobody".
+ */
+public record WorkItemFilter(
+        List<WorkItemStatus> statuses,
+        List<WorkItemPriority> priorities,
+        List<WorkItemType> types,
+        List<UUID> assigneeIds,
+        boolean unassigned) {
+
+    public WorkItemFilter {
+        statuses = statuses != null ? List.copyOf(statuses) : List.of();
+        priorities = priorities != null ? List.copyOf(priorities) : List.of();
+        types = types != null ? List.copyOf(types) : List.of();
+        assigneeIds = assigneeIds != null ? List.copyOf(assigneeIds) : List.of();
+    }
+
+    public boolean isEmpty() {
+        return statuses.isEmpty() && priorities.isEmpty() && types.isEmpty() && assigneeIds.isEmpty()
+                && !unassigned;
+    }
+}
@@ -0,0 +1,14 @@
+package com.strideboard.data.workitem;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Response to a drag: what the move UPDATE wrote, with no read of the row afterwards
+public record WorkItemMoveResult(
+        UUID id,
+        long version,
+        long boardVersion,
+        WorkItemStatus status,
+        double position,
+        LocalDateTime updatedAt) {
+}
@@ -0,0 +1,35 @@
+package com.strideboard.data.workitem;
+
+import java.util.UUID;
+
+/**
+ * One entry of a batch request. CREATE ignores id; MOVE only reads status and position;
+ * DELETE only reads id. Other fields, including the expected version, follow
+ * UpdateWorkItemRequest semantics.
+ */
+public record WorkItemOperation(
+        Kind op,
+        UUID id,
+        String title,
+        String description,
+        WorkItemStatus status,
+        WorkItemPriority priority,
+        WorkItemType type,
+        UUID assigneeId,
+        Double position,
+        Boolean removeAssignee,
+        Long version) {
+
+    public enum Kind {
+        CREATE, UPDATE, MOVE, DELETE
+    }
+
+    public CreateWorkItemRequest toCreateRequest() {
+        return new CreateWorkItemRequest(title, description, status, priority, type, assigneeId);
+    }
+
+    public UpdateWorkItemRequest toUpdateRequest() {
+        return new UpdateWorkItemRequest(title, description, status, priority, type, assigneeId, position,
+                removeAssignee, version);
+    }
+}
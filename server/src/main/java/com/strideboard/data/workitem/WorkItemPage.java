@@ -0,0 +1,7 @@
+package com.strideboard.data.workitem;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+public record WorkItemPage(List<WorkItemView> items, String nextCursor) {
+}
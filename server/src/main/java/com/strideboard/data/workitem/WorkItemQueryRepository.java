@@ -0,0 +1,20 @@
+package com.strideboard.data.workitem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Listings whose WHERE/ORDER BY depend on the request; implemented by WorkItemQueryRepositoryImpl
+public interface WorkItemQueryRepository {
+
+    List<WorkItemView> findViews(UUID projectId, WorkItemFilter filter, WorkItemSort sort, boolean descending);
+
+    /**
+     * Single-statement partial update of the given attributes (entity attribute names,
+     * never client input). Bumps version and stamps boardVersion and updatedAt. With an
+     * expectedVersion the row only matches at that version. Returns the rows updated.
+     */
+    int updateColumns(UUID id, UUID projectId, Long expectedVersion, Map<String, Object> values, long boardVersion,
+            LocalDateTime updatedAt);
+}
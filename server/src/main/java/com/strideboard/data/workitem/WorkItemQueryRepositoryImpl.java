@@ -0,0 +1,100 @@
+package com.strideboard.data.workitem;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Builds the filtered listing as plain JPQL with only the predicates that were asked
+ * for. Avoids "(:x IS NULL OR ...)" clauses, which stop Postgres from using the
+ * composite work_items indexes under generic plans. Partial updates are built the
+ * same way, so a PATCH writes only the columns it names.
+ */
+public class WorkItemQueryRepositoryImpl implements WorkItemQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<WorkItemView> findViews(UUID projectId, WorkItemFilter filter, WorkItemSort sort,
+            boolean descending) {
+
+        StringBuilder jpql = new StringBuilder(WorkItemRepository.VIEW_SELECT)
+                .append(" WHERE w.project.id = :projectId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("projectId", projectId);
+
+        if (!filter.statuses().isEmpty()) {
+            jpql.append(" AND w.status IN :statuses");
+            params.put("statuses", filter.statuses());
+        }
+        if (!filter.priorities().isEmpty()) {
+            jpql.append(" AND w.priority IN :priorities");
+            params.put("priorities", filter.priorities());
+        }
+        if (!filter.types().isEmpty()) {
+            jpql.append(" AND w.type IN :types");
+            params.put("types", filter.types());
+        }
+
+        List<String> assignee = new ArrayList<>(2);
+        if (!filter.assigneeIds().isEmpty()) {
+            assignee.add("a.id IN :assigneeIds");
+            params.put("assigneeIds", filter.assigneeIds());
+        }
+        if (filter.unassigned()) {
+            assignee.add("a.id IS NULL");
+        }
+        if (!assignee.isEmpty()) {
+            jpql.append(" AND (").append(String.join(" OR ", assignee)).append(")");
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        jpql.append(" ORDER BY ").append(sort.expression()).append(direction)
+                .append(", w.id").append(direction);
+
+        TypedQuery<WorkItemView> query = entityManager.createQuery(jpql.toString(), WorkItemView.class);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public int updateColumns(UUID id, UUID projectId, Long expectedVersion, Map<String, Object> values,
+            long boardVersion, LocalDateTime updatedAt) {
+
+        StringBuilder jpql = new StringBuilder("UPDATE WorkItem w SET w.version = w.version + 1,"
+                + " w.boardVersion = :boardVersion, w.updatedAt = :updatedAt");
+        Map<String, Object> params = new HashMap<>();
+        params.put("boardVersion", boardVersion);
+        params.put("updatedAt", updatedAt);
+
+        values.forEach((attribute, value) -> {
+            if (value == null) {
+                jpql.append(", w.").append(attribute).append(" = NULL");
+            } else {
+                jpql.append(", w.").append(attribute).append(" = :").append(attribute);
+                params.put(attribute, value);
+            }
+        });
+
+        jpql.append(" WHERE w.id = :id AND w.project.id = :projectId");
+        params.put("id", id);
+        params.put("projectId", projectId);
+        if (expectedVersion != null) {
+            jpql.append(" AND w.version = :expectedVersion");
+            params.put("expectedVersion", expectedVersion);
+        }
+
+        Query query = entityManager.createQuery(jpql.toString());
+        params.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+}
@@ -1,19 +1,103 @@
 package com.strideboard.data.workitem;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface WorkItemRepository extends JpaRepository<WorkItem, UUID> {
+public interface WorkItemRepository extends JpaRepository<WorkItem, UUID>, WorkItemQueryRepository {
+
+    // Read path: one statement per board, users joined in, no entities or proxies
+    String VIEW_SELECT = "SELECT new com.strideboard.data.workitem.WorkItemView(w.id, w.title, w.description,"
+            + " w.status, w.priority, w.type, w.position, w.boardVersion, w.version, w.createdAt, w.updatedAt, w.project.id,"
+            + " a.id, a.email, a.fullName, c.id, c.email, c.fullName)"
+            + " FROM WorkItem w LEFT JOIN w.assignee a JOIN w.creator c";
+
     List<WorkItem> findByProjectId(UUID projectId);
 
     List<WorkItem> findByProject_IdOrderByPositionAsc(UUID projectId);
 
-    @Query("SELECT MAX(w.position) FROM WorkItem w WHERE w.project.id = :projectId")
-    Double findMaxPositionByProjectId(@Param("projectId") UUID projectId);
+    List<WorkItem> findByProject_IdAndIdIn(UUID projectId, Collection<UUID> ids);
+
+    @Query(VIEW_SELECT + " WHERE w.project.id = :projectId ORDER BY w.position ASC, w.id ASC")
+    List<WorkItemView> findViewsByProjectId(@Param("projectId") UUID projectId);
+
+    // Keyset pagination on (position, id); served by idx_work_items_project_position
+    @Query(VIEW_SELECT + " WHERE w.project.id = :projectId ORDER BY w.position ASC, w.id ASC")
+    List<WorkItemView> findFirstPage(@Param("projectId") UUID projectId, Limit limit);
+
+    @Query(VIEW_SELECT + " WHERE w.project.id = :projectId"
+            + " AND (w.position > :position OR (w.position = :position AND w.id > :id))"
+            + " ORDER BY w.position ASC, w.id ASC")
+    List<WorkItemView> findPageAfter(@Param("projectId") UUID projectId, @Param("position") double position,
+            @Param("id") UUID id, Limit limit);
+
+    @Query(VIEW_SELECT + " WHERE w.project.id = :projectId AND w.boardVersion > :since"
+            + " ORDER BY w.position ASC, w.id ASC")
+    List<WorkItemView> findChangedSince(@Param("projectId") UUID projectId, @Param("since") long since);
+
+    // Smallest distance between neighbouring positions; null for fewer than two items
+    @Query(value = "SELECT MIN(gap) FROM (SELECT position - LAG(position) OVER (ORDER BY position, id) AS gap"
+            + " FROM work_items WHERE project_id = :projectId) g", nativeQuery = true)
+    Double findMinPositionGap(@Param("projectId") UUID projectId);
+
+    // Spreads positions to step, 2*step, ... keeping the current (position, id) order. Bumps each
+    // version too, so a write based on the old positions fails its @Version check instead of landing
+    @Modifying
+    @Query(value = "UPDATE work_items w SET position = r.rn * :step, board_version = :version,"
+            + " version = w.version + 1, updated_at = now()"
+            + " FROM (SELECT id, row_number() OVER (ORDER BY position, id) AS rn"
+            + " FROM work_items WHERE project_id = :projectId) r"
+            + " WHERE w.id = r.id", nativeQuery = true)
+    int renumberPositions(@Param("projectId") UUID projectId, @Param("step") double step,
+            @Param("version") long version);
+
+    @Query(VIEW_SELECT + " WHERE w.id = :id")
+    Optional<WorkItemView> findViewById(@Param("id") UUID id);
+
+    @Query(VIEW_SELECT + " WHERE w.id = :id AND w.project.id = :projectId")
+    Optional<WorkItemView> findViewByIdAndProjectId(@Param("id") UUID id, @Param("projectId") UUID projectId);
+
+    // What a partial update needs to know about the row it replaces; no entity and no description is loaded
+    @Query("SELECT new com.strideboard.data.workitem.WorkItemState(w.id, w.title,"
+            + " w.version, w.status, w.priority, w.type, w.position, w.assignee.id) FROM WorkItem w"
+            + " WHERE w.id = :id AND w.project.id = :projectId")
+    Optional<WorkItemState> findState(@Param("id") UUID id, @Param("projectId") UUID projectId);
+
+    // Old value for the history entry, read only when a PATCH replaces the description
+    @Query("SELECT w.description FROM WorkItem w WHERE w.id = :id")
+    Optional<String> findDescriptionById(@Param("id") UUID id);
+
+    @Query(VIEW_SELECT + " WHERE w.id IN :ids")
+    List<WorkItemView> findViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Matches via idx_work_items_workspace_search (GIN on workspace_id, search_vector; see
+    // WorkItemSearchSchema). At most :candidates matches, newest first, are ranked at all.
+    String SEARCH_HITS = "SELECT h.id AS id, h.rank AS rank FROM ("
+            + "SELECT m.id, ts_rank(m.search_vector, to_tsquery('simple', :query)) AS rank FROM ("
+            + "SELECT w.id, w.search_vector FROM work_items w"
+            + " WHERE w.workspace_id = :workspaceId AND w.search_vector @@ to_tsquery('simple', :query)"
+            + " ORDER BY w.id DESC LIMIT :candidates) m) h";
+
+    @Query(value = SEARCH_HITS + " ORDER BY h.rank DESC, h.id LIMIT :limit", nativeQuery = true)
+    List<WorkItemSearchHit> searchIds(@Param("workspaceId") UUID workspaceId, @Param("query") String query,
+            @Param("candidates") int candidates, @Param("limit") int limit);
+
+    // Next page after (afterRank, afterId), same order as searchIds
+    @Query(value = SEARCH_HITS + " WHERE h.rank < :afterRank OR (h.rank = :afterRank AND h.id > :afterId)"
+            + " ORDER BY h.rank DESC, h.id LIMIT :limit", nativeQuery = true)
+    List<WorkItemSearchHit> searchIdsAfter(@Param("workspaceId") UUID workspaceId, @Param("query") String query,
+            @Param("candidates") int candidates, @Param("afterRank") float afterRank,
+            @Param("afterId") UUID afterId, @Param("limit") int limit);
+
+    @Query("SELECT w.id FROM WorkItem w WHERE w.project.id = :projectId ORDER BY w.position ASC, w.id ASC")
+    List<UUID> findIdsInPositionOrder(@Param("projectId") UUID projectId);
 }
@@ -0,0 +1,32 @@
+package com.strideboard.data.workitem;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last search hit on a page: its rank, then its id.
+ * Encoded like WorkItemCursor; the rank travels as its exact float bits.
+ */
+public record WorkItemSearchCursor(float rank, UUID id) {
+
+    public String encode() {
+        String raw = Integer.toHexString(Float.floatToIntBits(rank)) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WorkItemSearchCursor of(WorkItemSearchHit hit) {
+        return new WorkItemSearchCursor(hit.getRank(), hit.getId());
+    }
+
+    // Throws IllegalArgumentException for tokens we did not issue
+    public static WorkItemSearchCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new WorkItemSearchCursor(Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, separator), 16)),
+                UUID.fromString(raw.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.strideboard.data.workitem;
+
+import java.util.UUID;
+
+// One ranked match from WorkItemRepository.searchIds; rank is Postgres' ts_rank (real)
+public interface WorkItemSearchHit {
+
+    UUID getId();
+
+    float getRank();
+}
@@ -0,0 +1,7 @@
+package com.strideboard.data.workitem;
+
+import java.util.List;
+
+// Best match first; nextCursor is null when there are no further results
+public record WorkItemSearchPage(List<WorkItemView> items, String nextCursor) {
+}
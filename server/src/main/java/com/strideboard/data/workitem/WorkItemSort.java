@@ -0,0 +1,46 @@
+package com.strideboard.data.workitem;
+
+import java.util.Locale;
+
+/**
+ * Sort keys for filtered listings. Every key is followed by id so the order is total.
+ * Priority sorts by the generated priority_rank column (LOW..URGENT), not by the
+ * stored enum name.
+ *
+ * Index-backed orders (see the WorkItem indexes): every key on its own; position
+ * with a single status, assignee, priority or type; createdAt, updatedAt and
+ * priority within a single status; updatedAt for a single assignee. Other
+ * combinations, and filters listing several values, read the project's matching
+ * rows and sort them in memory.
+ */
+public enum WorkItemSort {
+    POSITION("w.position"),
+    CREATED_AT("w.createdAt"),
+    UPDATED_AT("w.updatedAt"),
+    PRIORITY("w.priorityRank");
+
+    private final String expression;
+
+    WorkItemSort(String expression) {
+        this.expression = expression;
+    }
+
+    // JPQL ordering expression over the alias used by WorkItemRepository.VIEW_SELECT
+    public String expression() {
+        return expression;
+    }
+
+    // Accepts the JSON field names clients already use (createdAt, updatedAt, ...)
+    public static WorkItemSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return POSITION;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "position" -> POSITION;
+            case "createdat", "created_at" -> CREATED_AT;
+            case "updatedat", "updated_at" -> UPDATED_AT;
+            case "priority" -> PRIORITY;
+            default -> throw new IllegalArgumentException("Unknown sort key: " + value);
+        };
+    }
+}
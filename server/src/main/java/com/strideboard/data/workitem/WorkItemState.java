@@ -0,0 +1,52 @@
+package com.strideboard.data.workitem;
+
+import java.util.UUID;
+
+/**
+ * Scalar snapshot of the columns a partial update checks or reports on: the
+ * optimistic version, the counted fields, and the edited fields for history
+ * and notifications. Snapshots read by WorkItemRepository.findState leave the
+ * description out (null); see {@link #withDescription}.
+ */
+public record WorkItemState(
+        UUID id,
+        String title,
+        String description,
+        long version,
+        WorkItemStatus status,
+        WorkItemPriority priority,
+        WorkItemType type,
+        Double position,
+        UUID assigneeId) {
+
+    // Used by findState, which never reads the description column
+    public WorkItemState(UUID id, String title, long version, WorkItemStatus status, WorkItemPriority priority,
+            WorkItemType type, Double position, UUID assigneeId) {
+        this(id, title, null, version, status, priority, type, position, assigneeId);
+    }
+
+    // For entity writes (create, batch); reading the assignee id does not initialize the proxy
+    public static WorkItemState of(WorkItem item) {
+        return new WorkItemState(item.getId(), item.getTitle(), item.getDescription(), item.getVersion(),
+                item.getStatus(), item.getPriority(), item.getType(), item.getPosition(),
+                item.getAssignee() != null ? item.getAssignee().getId() : null);
+    }
+
+    public WorkItemState withDescription(String description) {
+        return new WorkItemState(id, title, description, version, status, priority, type, position, assigneeId);
+    }
+
+    // Null arguments keep the current value; assigneeId is passed through as given
+    public WorkItemState with(String title, String description, WorkItemStatus status, WorkItemPriority priority,
+            WorkItemType type, UUID assigneeId) {
+        return new WorkItemState(id,
+                title != null ? title : this.title,
+                description != null ? description : this.description,
+                version + 1,
+                status != null ? status : this.status,
+                priority != null ? priority : this.priority,
+                type != null ? type : this.type,
+                position,
+                assigneeId);
+    }
+}
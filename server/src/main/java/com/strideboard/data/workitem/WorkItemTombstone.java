@@ -0,0 +1,55 @@
+package com.strideboard.data.workitem;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Record of a deleted work item, kept so delta sync can report the deletion.
+ * Pruned after the retention window; no FK to projects so a project delete
+ * never blocks on them.
+ */
+@Entity
+@Table(name = "work_item_tombstones", indexes = {
+        @Index(name = "idx_work_item_tombstones_project_version", columnList = "project_id, board_version")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemTombstone implements Persistable<UUID> {
+
+    @Id
+    private UUID workItemId;
+
+    @Column(nullable = false)
+    private UUID projectId;
+
+    @Column(nullable = false)
+    private long boardVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Override
+    public UUID getId() {
+        return workItemId;
+    }
+
+    // Always inserted, never updated: lets save() persist (and batch) without a SELECT
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
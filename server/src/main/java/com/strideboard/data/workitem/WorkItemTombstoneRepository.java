@@ -0,0 +1,30 @@
+package com.strideboard.data.workitem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkItemTombstoneRepository extends JpaRepository<WorkItemTombstone, UUID> {
+
+    @Query("SELECT t.workItemId FROM WorkItemTombstone t WHERE t.projectId = :projectId AND t.boardVersion > :since")
+    List<UUID> findDeletedIdsSince(@Param("projectId") UUID projectId, @Param("since") long since);
+
+    // Records the highest version about to be pruned so clients behind it are told to resync
+    @Modifying
+    @Query(value = "UPDATE projects p SET tombstone_floor = t.max_version"
+            + " FROM (SELECT project_id, MAX(board_version) AS max_version FROM work_item_tombstones"
+            + " WHERE deleted_at < :cutoff GROUP BY project_id) t"
+            + " WHERE p.id = t.project_id AND p.tombstone_floor < t.max_version", nativeQuery = true)
+    int raiseTombstoneFloors(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM WorkItemTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
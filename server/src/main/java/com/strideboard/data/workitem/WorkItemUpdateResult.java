@@ -0,0 +1,7 @@
+package com.strideboard.data.workitem;
+
+import java.util.Set;
+
+// item after the write; fields are the properties the request wrote, previousVersion the version it replaced
+public record WorkItemUpdateResult(WorkItemView item, long previousVersion, Set<String> fields) {
+}
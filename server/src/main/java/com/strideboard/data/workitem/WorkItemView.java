@@ -0,0 +1,47 @@
+package com.strideboard.data.workitem;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.strideboard.data.user.UserSummary;
+
+/**
+ * Immutable read model of a work item, serialized in place of the entity by
+ * listings, mutation responses and socket events. Same JSON shape as WorkItem.
+ */
+public record WorkItemView(
+        UUID id,
+        String title,
+        String description,
+        WorkItemStatus status,
+        WorkItemPriority priority,
+        WorkItemType type,
+        Double position,
+        long boardVersion,
+        long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID projectId,
+        UserSummary assignee,
+        UserSummary creator) {
+
+    // Flat form for JPQL constructor expressions (see WorkItemRepository.VIEW_SELECT)
+    public WorkItemView(UUID id, String title, String description, WorkItemStatus status,
+            WorkItemPriority priority, WorkItemType type, Double position, long boardVersion, long version,
+            LocalDateTime createdAt, LocalDateTime updatedAt, UUID projectId,
+            UUID assigneeId, String assigneeEmail, String assigneeFullName,
+            UUID creatorId, String creatorEmail, String creatorFullName) {
+        this(id, title, description, status, priority, type, position, boardVersion, version, createdAt, updatedAt,
+                projectId,
+                assigneeId != null ? new UserSummary(assigneeId, assigneeEmail, assigneeFullName) : null,
+                new UserSummary(creatorId, creatorEmail, creatorFullName));
+    }
+
+    // For freshly written entities; initializes the assignee/creator proxies inside the transaction
+    public static WorkItemView from(WorkItem item) {
+        return new WorkItemView(item.getId(), item.getTitle(), item.getDescription(), item.getStatus(),
+                item.getPriority(), item.getType(), item.getPosition(), item.getBoardVersion(),
+                item.getVersion(), item.getCreatedAt(), item.getUpdatedAt(), item.getProjectId(),
+                UserSummary.from(item.getAssignee()), UserSummary.from(item.getCreator()));
+    }
+}
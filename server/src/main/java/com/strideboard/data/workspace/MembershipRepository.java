@@ -5,6 +5,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MembershipRepository extends JpaRepository<Membership, UUID> {
     List<Membership> findByUserId(UUID userId);
@@ -14,4 +16,10 @@ public interface MembershipRepository extends JpaRepository<Membership, UUID> {
     Optional<Membership> findByUserIdAndWorkspaceId(UUID userId, UUID workspaceId);
 
     List<Membership> findByWorkspaceId(UUID workspaceId);
+
+    @Query("SELECT new com.strideboard.data.workspace.MembershipRole(m.workspace.id, m.role) FROM Membership m WHERE m.user.id = :userId")
+    List<MembershipRole> findRolesByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT m.user.id FROM Membership m WHERE m.workspace.id = :workspaceId")
+    List<UUID> findUserIdsByWorkspaceId(@Param("workspaceId") UUID workspaceId);
 }
@@ -0,0 +1,6 @@
+package com.strideboard.data.workspace;
+
+import java.util.UUID;
+
+public record MembershipRole(UUID workspaceId, String role) {
+}
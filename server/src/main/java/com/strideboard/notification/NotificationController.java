@@ -3,20 +3,16 @@ package com.strideboard.notification;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.server.ResponseStatusException;
 
+import com.strideboard.auth.CurrentUser;
 import com.strideboard.data.notification.InboxItem;
-import com.strideboard.data.user.User;
-import com.strideboard.data.user.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,16 +21,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class NotificationController {
     private final NotificationService notificationService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<List<InboxItem>> getNotifications(Authentication authentication) {
-        String email = authentication.getName();
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
-
-        return ResponseEntity.ok(notificationService.getUserNotifications(user.getId()));
+    public ResponseEntity<List<InboxItem>> getNotifications(CurrentUser user) {
+        return ResponseEntity.ok(notificationService.getUserNotifications(user.id()));
     }
 
     // Mark Read
@@ -58,17 +48,10 @@ public class NotificationController {
         return ResponseEntity.noContent().build();
     }
 
-    // Check if notifications exist
+    // Check if notifications exist; new ones are also pushed to /user/queue/notifications
     @GetMapping("/has-unread")
-    public ResponseEntity<Boolean> hasNotifications(Authentication authentication) {
-        String email = authentication.getName();
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
-
-        boolean hasNotifications = !notificationService.getUserNotifications(user.getId()).isEmpty();
-
-        return ResponseEntity.ok(hasNotifications);
+    public ResponseEntity<Boolean> hasNotifications(CurrentUser user) {
+        return ResponseEntity.ok(notificationService.hasUnread(user.id()));
     }
 
 }
@@ -1,5 +1,6 @@
 package com.strideboard.notification;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
@@ -10,10 +11,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.strideboard.data.notification.InboxItem;
 import com.strideboard.data.notification.Notification;
+import com.strideboard.data.notification.NotificationPush;
 import com.strideboard.data.notification.NotificationRepository;
 import com.strideboard.data.notification.NotificationType;
 import com.strideboard.data.workspace.Membership;
 import com.strideboard.data.workspace.MembershipRepository;
+import com.strideboard.realtime.BoardEventBroadcaster;
+import com.strideboard.workspace.WorkspaceAccessService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,29 +26,47 @@ import lombok.RequiredArgsConstructor;
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final MembershipRepository membershipRepository;
+    private final WorkspaceAccessService workspaceAccess;
+    private final BoardEventBroadcaster broadcaster;
+
+    // Saves and pushes to the recipient's open sessions once the caller's transaction commits
+    public void send(Notification notification) {
+        notificationRepository.save(notification);
+        UUID recipientId = notification.getRecipient().getId();
+        broadcaster.sendToUser(recipientId,
+                new NotificationPush(toInboxItem(notification), notificationRepository.countByRecipientId(recipientId)));
+    }
+
+    public boolean hasUnread(UUID userId) {
+        return notificationRepository.existsByRecipientId(userId);
+    }
 
     @Transactional(readOnly = true)
     public List<InboxItem> getUserNotifications(UUID userId) {
         List<Notification> notifications = notificationRepository.findByRecipientIdOrderByCreatedAtDesc(userId);
 
-        return notifications.stream().map(n -> {
-            String projectName = null;
-            if (n.getWorkItem() != null && n.getWorkItem().getProject() != null) {
-                projectName = n.getWorkItem().getProject().getName();
-            }
-
-            return InboxItem.builder()
-                    .id(n.getId())
-                    .type(n.getType().name().toLowerCase())
-                    .workspaceName(n.getWorkspace().getName())
-                    .projectName(projectName)
-                    .subtitle(n.getSubtitle())
-                    .time(n.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
-                    .build();
-        })
+        return notifications.stream().map(NotificationService::toInboxItem)
                 .collect(Collectors.toList());
     }
 
+    private static InboxItem toInboxItem(Notification n) {
+        String projectName = null;
+        if (n.getWorkItem() != null && n.getWorkItem().getProject() != null) {
+            projectName = n.getWorkItem().getProject().getName();
+        }
+
+        // createdAt is only filled in on flush; a notification being pushed may not have it yet
+        LocalDateTime createdAt = n.getCreatedAt() != null ? n.getCreatedAt() : LocalDateTime.now();
+        return InboxItem.builder()
+                .id(n.getId())
+                .type(n.getType().name().toLowerCase())
+                .workspaceName(n.getWorkspace().getName())
+                .projectName(projectName)
+                .subtitle(n.getSubtitle())
+                .time(createdAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
+                .build();
+    }
+
     public void markAsRead(UUID notificationId) {
         notificationRepository.deleteById(notificationId);
     }
@@ -71,6 +93,7 @@ public class NotificationService {
                     .build();
 
             membershipRepository.save(newMembership);
+            workspaceAccess.membershipChanged(notification.getRecipient().getId(), notification.getWorkspace().getId());
         }
 
         // Delete the notification
@@ -1,10 +1,11 @@
 package com.strideboard.project;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,17 +15,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-
+import com.strideboard.auth.CurrentUser;
+import com.strideboard.config.ETags;
 import com.strideboard.data.project.CreateProjectRequest;
 import com.strideboard.data.project.Project;
 import com.strideboard.data.project.ProjectRepository;
-import com.strideboard.data.user.User;
+import com.strideboard.data.project.ProjectStats;
 import com.strideboard.data.user.UserRepository;
-import com.strideboard.data.workspace.Membership;
-import com.strideboard.data.workspace.MembershipRepository;
 import com.strideboard.data.workspace.Workspace;
 import com.strideboard.data.workspace.WorkspaceRepository;
+import com.strideboard.workspace.WorkspaceAccessService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,24 +37,31 @@ public class ProjectController {
 
     private final WorkspaceRepository workspaceRepository;
     private final ProjectRepository projectRepository;
-    private final MembershipRepository membershipRepository;
     private final UserRepository userRepository;
+    private final WorkspaceAccessService workspaceAccess;
+    private final ProjectStatsService statsService;
 
     @GetMapping("/{workspaceId}")
     @Transactional(readOnly = true)
     public ResponseEntity<List<Project>> getWorkspaceProjects(
             @PathVariable UUID workspaceId,
-            Authentication auth) {
-
-        User user = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            CurrentUser user,
+            WebRequest webRequest) {
 
-        if (!membershipRepository.existsByUserIdAndWorkspaceId(user.getId(), workspaceId)) {
+        if (!workspaceAccess.isMember(user, workspaceId)) {
             return ResponseEntity.status(403).build();
         }
 
+        // Tag covers only the fields the listing serializes, read as a scalar projection
+        String etag = ETags.ofRecords(projectRepository.findFingerprintsByWorkspaceId(workspaceId));
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ETags.REVALIDATE).build();
+        }
+
         List<Project> projects = projectRepository.findByWorkspace_Id(workspaceId);
-        return ResponseEntity.ok(projects);
+        Map<UUID, ProjectStats> stats = statsService.getAll(projects.stream().map(Project::getId).toList());
+        projects.forEach(p -> p.setStats(stats.get(p.getId())));
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(projects);
     }
 
     @PostMapping("/{workspaceId}")
@@ -60,15 +69,9 @@ public class ProjectController {
     public ResponseEntity<Project> createProject(
             @PathVariable UUID workspaceId,
             @RequestBody CreateProjectRequest request,
-            Authentication auth) {
+            CurrentUser user) {
 
-        User user = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Membership membership = membershipRepository.findByUserIdAndWorkspaceId(user.getId(), workspaceId)
-                .orElse(null);
-
-        if (membership == null || "VIEWER".equalsIgnoreCase(membership.getRole())) {
+        if (!workspaceAccess.canEdit(user, workspaceId)) {
             return ResponseEntity.status(403).build();
         }
 
@@ -79,7 +82,7 @@ public class ProjectController {
                 .name(request.getName())
                 .description(request.getDescription())
                 .workspace(workspace)
-                .creator(user)
+                .creator(userRepository.getReferenceById(user.id()))
                 .build();
 
         return ResponseEntity.ok(projectRepository.save(project));
@@ -95,12 +98,9 @@ public class ProjectController {
     public ResponseEntity<Project> getProjectById(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
-            Authentication auth) {
-
-        User user = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            CurrentUser user) {
 
-        if (!membershipRepository.existsByUserIdAndWorkspaceId(user.getId(), workspaceId)) {
+        if (!workspaceAccess.isMember(user, workspaceId)) {
             return ResponseEntity.status(403).build();
         }
 
@@ -114,14 +114,43 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    /**
+     * Work item counts by status, priority, type and assignment, read from the
+     * maintained counters. Tagged with the board version like the board itself.
+     * Path: GET /api/projects/{workspaceId}/{projectId}/stats
+     */
+    @GetMapping("/{workspaceId}/{projectId}/stats")
+    @Transactional(readOnly = true)
+    public ResponseEntity<ProjectStats> getProjectStats(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            CurrentUser user,
+            WebRequest webRequest) {
+
+        if (!workspaceAccess.isMember(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        Long version = projectRepository.findBoardVersion(projectId, workspaceId).orElse(null);
+        if (version == null) {
+            return ResponseEntity.status(400).build();
+        }
+
+        if (webRequest.checkNotModified(ETags.ofVersion(projectId, version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ETags.REVALIDATE).build();
+        }
+
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(statsService.get(projectId));
+    }
+
     @PatchMapping("/{workspaceId}/{projectId}/name")
     public ResponseEntity<Project> updateProjectName(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
             @RequestBody UpdateProjectNameRequest request,
-            Authentication auth) {
+            CurrentUser user) {
 
-        return updateProject(workspaceId, projectId, auth, project -> {
+        return updateProject(workspaceId, projectId, user, project -> {
             if (request.name() != null && !request.name().isBlank()) {
                 project.setName(request.name());
             }
@@ -133,21 +162,19 @@ public class ProjectController {
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
             @RequestBody UpdateProjectDescriptionRequest request,
-            Authentication auth) {
+            CurrentUser user) {
 
-        return updateProject(workspaceId, projectId, auth, project -> {
+        return updateProject(workspaceId, projectId, user, project -> {
             project.setDescription(request.description());
         });
     }
 
     @DeleteMapping("/{workspaceId}/{projectId}")
+    @Transactional
     public ResponseEntity<Void> deleteProject(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
-            Authentication auth) {
-
-        User user = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            CurrentUser user) {
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
@@ -161,6 +188,7 @@ public class ProjectController {
         }
 
         projectRepository.delete(project);
+        statsService.deleteFor(projectId);
         return ResponseEntity.noContent().build();
     }
 
@@ -168,10 +196,7 @@ public class ProjectController {
     public ResponseEntity<Boolean> isProjectCreator(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
-            Authentication auth) {
-
-        User currentUser = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            CurrentUser currentUser) {
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
@@ -179,7 +204,7 @@ public class ProjectController {
         // Security check omitted for brevity, but should ideally check workspace
         // membership
 
-        boolean isCreator = project.getCreator() != null && project.getCreator().getId().equals(currentUser.getId());
+        boolean isCreator = project.getCreator() != null && project.getCreator().getId().equals(currentUser.id());
         return ResponseEntity.ok(isCreator);
     }
 
@@ -192,9 +217,8 @@ public class ProjectController {
     }
 
     // Helper to consolidate update permissions logic
-    private ResponseEntity<Project> updateProject(UUID workspaceId, UUID projectId, Authentication auth,
+    private ResponseEntity<Project> updateProject(UUID workspaceId, UUID projectId, CurrentUser user,
             java.util.function.Consumer<Project> updater) {
-        User user = userRepository.findByEmail(auth.getName()).orElseThrow(() -> new RuntimeException("User"));
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
 
@@ -208,13 +232,12 @@ public class ProjectController {
         return ResponseEntity.ok(projectRepository.save(project));
     }
 
-    private boolean hasProjectEditPermissions(User user, Project project, UUID workspaceId) {
-        Membership membership = membershipRepository.findByUserIdAndWorkspaceId(user.getId(), workspaceId).orElse(null);
-        if (membership == null)
+    private boolean hasProjectEditPermissions(CurrentUser user, Project project, UUID workspaceId) {
+        if (!workspaceAccess.isMember(user, workspaceId))
             return false;
 
-        boolean isCreator = project.getCreator() != null && project.getCreator().getId().equals(user.getId());
-        boolean isAdmin = "ADMIN".equals(membership.getRole());
+        boolean isCreator = project.getCreator() != null && project.getCreator().getId().equals(user.id());
+        boolean isAdmin = workspaceAccess.isAdmin(user, workspaceId);
 
         return isCreator || isAdmin;
     }
@@ -0,0 +1,41 @@
+package com.strideboard.project;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.strideboard.data.project.ProjectStats;
+import com.strideboard.data.workitem.WorkItem;
+import com.strideboard.data.workitem.WorkItemState;
+
+/**
+ * Counter changes collected while a request writes work items, applied once at the
+ * end by ProjectStatsService. For an in-place edit call remove() before changing the
+ * entity and add() after; buckets that cancel out are never written.
+ */
+public class ProjectStatsDelta {
+
+    private final Map<String, Long> changes = new HashMap<>();
+
+    public ProjectStatsDelta add(WorkItem item) {
+        return change(ProjectStats.bucketsOf(item), 1);
+    }
+
+    public ProjectStatsDelta remove(WorkItem item) {
+        return change(ProjectStats.bucketsOf(item), -1);
+    }
+
+    // Column-level updates, which never load the entity
+    public ProjectStatsDelta replace(WorkItemState before, WorkItemState after) {
+        return change(ProjectStats.bucketsOf(before), -1).change(ProjectStats.bucketsOf(after), 1);
+    }
+
+    private ProjectStatsDelta change(List<String> buckets, long by) {
+        buckets.forEach(bucket -> changes.merge(bucket, by, Long::sum));
+        return this;
+    }
+
+    Map<String, Long> changes() {
+        return changes;
+    }
+}
@@ -0,0 +1,40 @@
+package com.strideboard.project;
+
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.strideboard.data.project.ProjectStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds projects whose counters disagree with work_items (writes outside the
+ * maintained paths, manual SQL, deleted projects) and rebuilds them, one project
+ * per transaction. Also seeds counters for projects that predate them. A project
+ * that fails is logged and left for the next run; the others are still repaired.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectStatsRepairJob {
+
+    private final ProjectStatsRepository statsRepository;
+    private final ProjectStatsService statsService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${app.projects.stats.repair-interval:6h}",
+            initialDelayString = "${app.projects.stats.repair-initial-delay:1m}")
+    public void repairDrifted() {
+        for (UUID projectId : statsRepository.findDriftedProjectIds()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> statsService.recompute(projectId));
+            } catch (RuntimeException e) {
+                log.warn("Recomputing the stats of project {} failed, retrying next run", projectId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.strideboard.project;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.strideboard.data.project.ProjectRepository;
+import com.strideboard.data.project.ProjectStatCounter;
+import com.strideboard.data.project.ProjectStats;
+import com.strideboard.data.project.ProjectStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-project work item counters, maintained in the same transaction as the writes
+ * that change them. Writers call {@link #apply} after taking a board version, which
+ * holds the project row lock until commit.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+
+    private final ProjectStatsRepository statsRepository;
+    private final ProjectRepository projectRepository;
+
+    public void apply(UUID projectId, ProjectStatsDelta delta) {
+        delta.changes().forEach((bucket, change) -> {
+            if (change != 0) {
+                statsRepository.addToCounter(projectId, bucket, change);
+            }
+        });
+    }
+
+    public ProjectStats get(UUID projectId) {
+        return ProjectStats.from(statsRepository.findByProjectId(projectId));
+    }
+
+    // One query for a whole listing; projects without counters get all-zero stats
+    public Map<UUID, ProjectStats> getAll(Collection<UUID> projectIds) {
+        Map<UUID, List<ProjectStatCounter>> counters = projectIds.isEmpty() ? Map.of()
+                : statsRepository.findByProjectIdIn(projectIds).stream()
+                        .collect(Collectors.groupingBy(ProjectStatCounter::getProjectId));
+        return projectIds.stream().collect(Collectors.toMap(id -> id,
+                id -> ProjectStats.from(counters.getOrDefault(id, List.of()))));
+    }
+
+    public void deleteFor(UUID projectId) {
+        statsRepository.deleteByProjectId(projectId);
+    }
+
+    /**
+     * Rebuilds a project's counters from work_items. Bumps the board version first:
+     * that takes the row lock writers use, and invalidates ETags over the old counts.
+     */
+    public void recompute(UUID projectId) {
+        projectRepository.incrementBoardVersion(projectId);
+        statsRepository.deleteByProjectId(projectId);
+        statsRepository.recompute(projectId);
+    }
+}
@@ -0,0 +1,171 @@
+package com.strideboard.realtime;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORGenerator;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * Opt-in CBOR frames. A client on the plain WebSocket endpoint (SockJS cannot carry
+ * binary) sends "accept-content: application/cbor" with CONNECT; from then on every
+ * JSON MESSAGE to that session is re-encoded as CBOR and sent as a binary frame
+ * (content-type application/octet-stream). Everyone else keeps getting JSON.
+ *
+ * Frames are still serialized once as JSON; the CBOR copy is made per frame, not per
+ * session, and the UUID strings of id fields (ID_FIELDS, ID_ARRAYS) become 16-byte
+ * binaries under tag 37. Any other string stays text, even one that looks like a UUID.
+ */
+@Component
+public class BinaryFrameEncoding implements ChannelInterceptor, HandshakeInterceptor {
+
+    public static final String ACCEPT_HEADER = "accept-content";
+    public static final MimeType CBOR = MimeType.valueOf("application/cbor");
+
+    private static final String BINARY_CAPABLE = "strideboard.binaryCapable";
+    private static final int UUID_TAG = 37;
+    // Fields holding one id: items, projects, and assignee/creator/viewer objects
+    private static final Set<String> ID_FIELDS = Set.of("id", "projectId", "workItemId", "assigneeId", "creatorId");
+    // Arrays of ids: batch deletes and reorders, presence leaves
+    private static final Set<String> ID_ARRAYS = Set.of("workItemIds", "left");
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final CBORMapper CBOR_MAPPER = CBORMapper.builder().build();
+
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+
+    // Keyed by payload identity: the broker hands the same array to every subscriber
+    private final Cache<byte[], byte[]> encoded = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(1_000)
+            .build();
+
+    // Registered on the plain WebSocket endpoint only
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+        attributes.put(BINARY_CAPABLE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+            Exception exception) {
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+        if (type == SimpMessageType.CONNECT) {
+            negotiate(StompHeaderAccessor.wrap(message), sessionId);
+            return message;
+        }
+        if (type != SimpMessageType.MESSAGE || !cborSessions.contains(sessionId)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getContentType() == null
+                || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(accessor.getContentType())) {
+            return message;
+        }
+        // Only octet-stream goes out as a binary WebSocket frame
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        return MessageBuilder.createMessage(encoded.get(payload, BinaryFrameEncoding::toCbor),
+                accessor.getMessageHeaders());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        cborSessions.remove(event.getSessionId());
+    }
+
+    private void negotiate(StompHeaderAccessor accessor, String sessionId) {
+        String accept = accessor.getFirstNativeHeader(ACCEPT_HEADER);
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (accept != null && attributes != null && attributes.containsKey(BINARY_CAPABLE)
+                && MimeTypeUtils.parseMimeTypes(accept).stream().anyMatch(CBOR::isCompatibleWith)) {
+            cborSessions.add(sessionId);
+        }
+    }
+
+    // Token by token, no tree; package-private for FrameEncodingBenchmark
+    static byte[] toCbor(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = JSON.createParser(json);
+                JsonGenerator generator = CBOR_MAPPER.createGenerator(out)) {
+            CBORGenerator cbor = (CBORGenerator) generator;
+            while (parser.nextToken() != null) {
+                UUID uuid = parser.currentToken() == JsonToken.VALUE_STRING && isIdField(parser)
+                        ? asUuid(parser.getString())
+                        : null;
+                if (uuid != null) {
+                    cbor.writeTag(UUID_TAG);
+                    cbor.writeBinary(ByteBuffer.allocate(16)
+                            .putLong(uuid.getMostSignificantBits())
+                            .putLong(uuid.getLeastSignificantBits())
+                            .array());
+                } else {
+                    cbor.copyCurrentEvent(parser);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isIdField(JsonParser parser) {
+        TokenStreamContext context = parser.streamReadContext();
+        if (context.inObject()) {
+            return ID_FIELDS.contains(context.currentName());
+        }
+        TokenStreamContext parent = context.getParent();
+        return context.inArray() && parent != null && parent.inObject() && ID_ARRAYS.contains(parent.currentName());
+    }
+
+    // Canonical 8-4-4-4-12 hex only, so ordinary text never changes type
+    private static UUID asUuid(String value) {
+        if (value.length() != 36 || value.charAt(8) != '-' || value.charAt(13) != '-' || value.charAt(18) != '-'
+                || value.charAt(23) != '-') {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equalsIgnoreCase(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.strideboard.realtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import com.strideboard.config.AfterCommit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Single place where board events leave the server, so delivery policy can change
+ * without touching the controllers. An event is only handed on once its transaction
+ * commits, and then on the board-events thread: the request never waits on
+ * serialization, the relay or the broker. With app.realtime.coalesce-window above zero,
+ * item events are merged per project by BoardEventCoalescer first. Each frame is
+ * serialized once; the same bytes go to local subscribers and, in cluster mode, to
+ * the other nodes via ClusterEventRelay. Per-user events (sendToUser) take the same
+ * path to /user/queue/notifications, without coalescing.
+ *
+ * When the queue is full an event is dropped rather than block the committer. Its
+ * project's subscribers then get a RESYNC frame in the event's place: ahead of the
+ * project's next event, or once the queue has drained.
+ */
+@Component
+public class BoardEventBroadcaster {
+
+    static final String USER_QUEUE = "/queue/notifications";
+    // STOMP headers on board frames; see BoardEventReplay
+    static final String STREAM_HEADER = "stream";
+    static final String SEQ_HEADER = "seq";
+
+    private static final MessageHeaders JSON = new MessageHeaders(
+            Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON));
+    private static final BoardResyncSocketEvent RESYNC = new BoardResyncSocketEvent();
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectProvider<ClusterEventRelay> relay;
+    private final BoardEventReplay replay;
+    private final BoardEventCoalescer coalescer;
+    private final ThreadPoolExecutor executor;
+    // Projects that lost an event and still owe their subscribers a RESYNC
+    private final Set<UUID> broken = ConcurrentHashMap.newKeySet();
+    private final Counter eventsIn;
+    private final Counter framesOut;
+    private final Counter dropped;
+    private final Counter failed;
+
+    public BoardEventBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectProvider<ClusterEventRelay> relay,
+            BoardEventReplay replay, MeterRegistry meterRegistry,
+            @Value("${app.realtime.coalesce-window:0ms}") Duration coalesceWindow,
+            @Value("${app.realtime.queue-capacity:10000}") int queueCapacity) {
+        this.messagingTemplate = messagingTemplate;
+        this.relay = relay;
+        this.replay = replay;
+        this.coalescer = coalesceWindow.isZero() ? null : new BoardEventCoalescer(coalesceWindow, this::publish);
+        this.dropped = Counter.builder("strideboard.realtime.events.dropped")
+                .description("Board events dropped because the broadcast queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("strideboard.realtime.events.failed")
+                .description("Board events that could not be serialized or sent")
+                .register(meterRegistry);
+        // One thread keeps events in commit order; a full queue rejects rather than blocking the committer
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "board-events");
+                    t.setDaemon(true);
+                    return t;
+                }) {
+            @Override
+            protected void afterExecute(Runnable task, Throwable error) {
+                // Drained: every event queued before the drops is out, so the RESYNC comes after them
+                if (!broken.isEmpty() && getQueue().isEmpty()) {
+                    List.copyOf(broken).forEach(projectId -> {
+                        if (broken.remove(projectId)) {
+                            dispatch(projectId, RESYNC);
+                        }
+                    });
+                }
+            }
+        };
+        Gauge.builder("strideboard.realtime.queue", executor, e -> e.getQueue().size())
+                .description("Committed board events waiting to be broadcast")
+                .register(meterRegistry);
+        this.eventsIn = Counter.builder("strideboard.realtime.events.in")
+                .description("Board events handed to the broadcaster")
+                .register(meterRegistry);
+        this.framesOut = Counter.builder("strideboard.realtime.frames.out")
+                .description("Board frames sent to subscribers after coalescing")
+                .register(meterRegistry);
+    }
+
+    // Safe to call inside a transaction: nothing is sent if it rolls back
+    public void send(UUID projectId, Object event) {
+        AfterCommit.run(() -> {
+            boolean resync = broken.remove(projectId);
+            try {
+                executor.execute(() -> {
+                    if (resync) {
+                        dispatch(projectId, RESYNC);
+                    }
+                    dispatch(projectId, event);
+                });
+            } catch (RejectedExecutionException e) {
+                dropped.increment();
+                broken.add(projectId);
+            }
+        });
+    }
+
+    // Only this node's subscribers reload, e.g. after ClusterEventRelay missed events of the other nodes
+    public void resyncLocally(UUID projectId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    deliver(projectId, serialize(RESYNC));
+                } catch (RuntimeException e) {
+                    failed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            broken.add(projectId);
+        }
+    }
+
+    // Nothing to resync for a user queue; a dropped notification is only counted
+    public void sendToUser(UUID userId, Object event) {
+        AfterCommit.run(() -> {
+            try {
+                executor.execute(() -> {
+                    try {
+                        byte[] payload = serialize(event);
+                        deliverToUser(userId, payload);
+                        relay.ifAvailable(r -> r.publishToUser(userId, payload));
+                    } catch (RuntimeException e) {
+                        // Same as dispatch: never stop the queue
+                        failed.increment();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                dropped.increment();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
+
+    private void dispatch(UUID projectId, Object event) {
+        eventsIn.increment();
+        try {
+            if (coalescer != null) {
+                coalescer.add(projectId, event);
+            } else {
+                publish(projectId, event);
+            }
+        } catch (RuntimeException e) {
+            // One event that fails to serialize or send must not stop the queue
+            failed.increment();
+        }
+    }
+
+    private void publish(UUID projectId, Object event) {
+        byte[] payload = serialize(event);
+        framesOut.increment();
+        deliver(projectId, payload);
+        relay.ifAvailable(r -> r.publish(projectId, payload));
+    }
+
+    // Local subscribers only; also the entry point for events relayed from other nodes.
+    // Sequences are per node, so relayed events are numbered here, not by their origin
+    void deliver(UUID projectId, byte[] payload) {
+        replay.append(projectId, payload, (stream, seq) -> {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setNativeHeader(STREAM_HEADER, stream);
+            accessor.setNativeHeader(SEQ_HEADER, Long.toString(seq));
+            accessor.setLeaveMutable(true);
+            // Broadcasts to: /topic/project/{projectId}
+            messagingTemplate.send("/topic/project/" + projectId,
+                    MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        });
+    }
+
+    // Every session of the user on this node; the user destination handler resolves /user/{id}/...
+    void deliverToUser(UUID userId, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send("/user/" + userId + USER_QUEUE,
+                MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    // Same converter (and JSON settings) the broker would have used for convertAndSend
+    byte[] serialize(Object event) {
+        Message<?> message = messagingTemplate.getMessageConverter().toMessage(event, JSON);
+        if (message == null || !(message.getPayload() instanceof byte[] bytes)) {
+            throw new IllegalStateException("No JSON converter for " + event.getClass().getSimpleName());
+        }
+        return bytes;
+    }
+}
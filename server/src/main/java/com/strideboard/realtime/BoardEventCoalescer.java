@@ -0,0 +1,120 @@
+package com.strideboard.realtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.strideboard.data.workitem.WorkItemView;
+
+/**
+ * Collects a project's item events for one window after the first of them, then
+ * hands a single frame to the sink: the event itself when it was alone, otherwise
+ * one BATCH holding the latest full state of every touched item and the deleted ids.
+ * Events it cannot merge (REORDERED, and moves, which carry no full item) flush the
+ * project's window first and pass through.
+ */
+class BoardEventCoalescer {
+
+    private final long windowMillis;
+    private final BiConsumer<UUID, Object> sink;
+    private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "board-event-coalescer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    BoardEventCoalescer(Duration window, BiConsumer<UUID, Object> sink) {
+        this.windowMillis = window.toMillis();
+        this.sink = sink;
+    }
+
+    void add(UUID projectId, Object event) {
+        boolean mergeable = event instanceof WorkItemSocketEvent || event instanceof WorkItemBatchSocketEvent
+                || event instanceof WorkItemDeltaSocketEvent delta && delta.getWorkItem() != null;
+        if (!mergeable) {
+            // Held across both sends so a timed flush cannot land after the event it preceded
+            synchronized (this) {
+                flush(projectId);
+                sink.accept(projectId, event);
+            }
+            return;
+        }
+        boolean[] opened = { false };
+        pending.compute(projectId, (id, window) -> {
+            if (window == null) {
+                window = new Pending();
+                opened[0] = true;
+            }
+            window.add(event);
+            return window;
+        });
+        if (opened[0]) {
+            scheduler.schedule(() -> flush(projectId), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    synchronized void flush(UUID projectId) {
+        Pending window = pending.remove(projectId);
+        if (window != null) {
+            sink.accept(projectId, window.frame());
+        }
+    }
+
+    void shutdown() {
+        scheduler.shutdownNow();
+        new ArrayList<>(pending.keySet()).forEach(this::flush);
+    }
+
+    // Only mutated inside pending.compute, so never concurrently
+    private static final class Pending {
+        private final Map<UUID, WorkItemView> upserts = new LinkedHashMap<>();
+        private final Set<UUID> deleted = new LinkedHashSet<>();
+        private Object first;
+        private int count;
+
+        void add(Object event) {
+            if (count++ == 0) {
+                first = event;
+            }
+            if (event instanceof WorkItemDeltaSocketEvent delta) {
+                upsert(delta.getWorkItem());
+            } else if (event instanceof WorkItemSocketEvent single) {
+                if (single.getType() == WorkItemSocketEvent.EventType.DELETED) {
+                    delete(UUID.fromString(single.getWorkItemId()));
+                } else {
+                    upsert(single.getWorkItem());
+                }
+            } else if (event instanceof WorkItemBatchSocketEvent batch) {
+                batch.getWorkItems().forEach(this::upsert);
+                batch.getWorkItemIds().forEach(this::delete);
+            }
+        }
+
+        // Re-inserting moves the item to the end, keeping the order of last writes
+        private void upsert(WorkItemView item) {
+            deleted.remove(item.id());
+            upserts.remove(item.id());
+            upserts.put(item.id(), item);
+        }
+
+        private void delete(UUID id) {
+            upserts.remove(id);
+            deleted.add(id);
+        }
+
+        Object frame() {
+            return count == 1 ? first
+                    : new WorkItemBatchSocketEvent(new ArrayList<>(upserts.values()), new ArrayList<>(deleted));
+        }
+    }
+}
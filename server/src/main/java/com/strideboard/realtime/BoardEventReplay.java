@@ -0,0 +1,102 @@
+package com.strideboard.realtime;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Numbers each project's board frames on this node and keeps the last few in a
+ * ring, so a client that dropped its connection can resume from where it was
+ * (see BoardEventResume) instead of reloading the board. A ring lives while its
+ * project is active; a new ring gets a new stream id, which tells clients holding
+ * sequences of the old one to reload. All rings together hold at most
+ * app.realtime.replay.max-bytes of payload; the least recently used go first.
+ */
+@Component
+public class BoardEventReplay {
+
+    private final int capacity;
+    private final Cache<UUID, Ring> rings;
+
+    public BoardEventReplay(
+            @Value("${app.realtime.replay.capacity:256}") int capacity,
+            @Value("${app.realtime.replay.idle:10m}") Duration idle,
+            @Value("${app.realtime.replay.max-bytes:64MB}") DataSize maxBytes) {
+        this.capacity = capacity;
+        this.rings = Caffeine.newBuilder()
+                .expireAfterAccess(idle)
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((UUID projectId, Ring ring) -> (int) Math.min(ring.bytes, Integer.MAX_VALUE))
+                .build();
+    }
+
+    // One frame in the ring; event is the JSON exactly as it went out
+    public record Entry(long seq, @JsonRawValue String event) {
+    }
+
+    // Stamps and sends under the ring's lock, so sequence order is delivery order
+    void append(UUID projectId, byte[] payload, ObjLongConsumer<String> send) {
+        Ring ring = rings.get(projectId, id -> new Ring(capacity));
+        synchronized (ring) {
+            send.accept(ring.stream, ring.add(payload));
+        }
+        // Caffeine weighs an entry when it is written; rewrite it so the ring's new size counts
+        rings.asMap().computeIfPresent(projectId, (id, current) -> current);
+    }
+
+    // Frames after `after` in stream; empty when the stream is gone or the gap was overwritten
+    public Optional<List<Entry>> since(UUID projectId, String stream, long after) {
+        Ring ring = rings.getIfPresent(projectId);
+        if (ring == null || !ring.stream.equals(stream)) {
+            return Optional.empty();
+        }
+        synchronized (ring) {
+            return ring.since(after);
+        }
+    }
+
+    // Guarded by its own monitor; bytes is also read unlocked by the weigher
+    static final class Ring {
+        final String stream = UUID.randomUUID().toString();
+        final byte[][] slots;
+        long last;
+        volatile long bytes;
+
+        Ring(int capacity) {
+            this.slots = new byte[capacity][];
+        }
+
+        long add(byte[] payload) {
+            last++;
+            int slot = (int) (last % slots.length);
+            long overwritten = slots[slot] != null ? slots[slot].length : 0;
+            slots[slot] = payload;
+            bytes += payload.length - overwritten;
+            return last;
+        }
+
+        Optional<List<Entry>> since(long after) {
+            long oldest = Math.max(1, last - slots.length + 1);
+            if (after + 1 < oldest || after > last) {
+                return Optional.empty();
+            }
+            List<Entry> entries = new ArrayList<>();
+            for (long seq = after + 1; seq <= last; seq++) {
+                entries.add(new Entry(seq, new String(slots[(int) (seq % slots.length)], StandardCharsets.UTF_8)));
+            }
+            return Optional.of(entries);
+        }
+    }
+}
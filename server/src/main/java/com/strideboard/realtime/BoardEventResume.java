@@ -0,0 +1,87 @@
+package com.strideboard.realtime;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Resumes a board over the client's own STOMP session: a SUBSCRIBE to
+ * /topic/project/{id} carrying resume-stream and resume-after is answered, on that
+ * subscription only, with one REPLAY frame of everything it missed, or RESYNC when
+ * those frames are gone. Neither answer carries stream/seq headers.
+ *
+ * The answer is sent once the broker has registered the subscription, so every frame
+ * is either in the replay or delivered live afterwards; the client holds live frames
+ * until the answer arrives and drops the ones it already has by seq. Membership was
+ * checked by StompSubscriptionInterceptor before the SUBSCRIBE got here.
+ */
+@Component
+public class BoardEventResume implements ExecutorChannelInterceptor {
+
+    static final String RESUME_STREAM_HEADER = "resume-stream";
+    static final String RESUME_AFTER_HEADER = "resume-after";
+    private static final String TOPIC = "/topic/project/";
+
+    private final BoardEventReplay replay;
+    private final ObjectProvider<BoardEventBroadcaster> broadcaster;
+    private final ObjectProvider<MessageChannel> clientOutboundChannel;
+
+    // Lazy: both are built from the channels this interceptor is registered on
+    public BoardEventResume(BoardEventReplay replay, ObjectProvider<BoardEventBroadcaster> broadcaster,
+            @Qualifier("clientOutboundChannel") ObjectProvider<MessageChannel> clientOutboundChannel) {
+        this.replay = replay;
+        this.broadcaster = broadcaster;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+            Exception ex) {
+        if (ex != null || !(handler instanceof SimpleBrokerMessageHandler)) {
+            return;
+        }
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return;
+        }
+        String stream = accessor.getFirstNativeHeader(RESUME_STREAM_HEADER);
+        String after = accessor.getFirstNativeHeader(RESUME_AFTER_HEADER);
+        String destination = accessor.getDestination();
+        if (stream == null || after == null || destination == null || !destination.startsWith(TOPIC)) {
+            return;
+        }
+
+        Object answer;
+        try {
+            UUID projectId = UUID.fromString(destination.substring(TOPIC.length()));
+            answer = replay.since(projectId, stream, Long.parseLong(after))
+                    .<Object>map(entries -> new BoardReplaySocketEvent(stream, entries))
+                    .orElseGet(BoardResyncSocketEvent::new);
+        } catch (IllegalArgumentException e) {
+            answer = new BoardResyncSocketEvent();
+        }
+
+        SimpMessageHeaderAccessor reply = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        reply.setSessionId(accessor.getSessionId());
+        reply.setSubscriptionId(accessor.getSubscriptionId());
+        reply.setDestination(destination);
+        reply.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        reply.setLeaveMutable(true);
+        clientOutboundChannel.getObject().send(
+                MessageBuilder.createMessage(broadcaster.getObject().serialize(answer), reply.getMessageHeaders()));
+    }
+}
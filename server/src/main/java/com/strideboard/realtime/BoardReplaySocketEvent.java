@@ -0,0 +1,17 @@
+package com.strideboard.realtime;
+
+import java.util.List;
+
+import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Answer to a resuming SUBSCRIBE: the frames of stream the session missed, oldest first
+@Data
+@AllArgsConstructor
+public class BoardReplaySocketEvent {
+    private final EventType type = EventType.REPLAY;
+    private String stream;
+    private List<BoardEventReplay.Entry> events;
+}
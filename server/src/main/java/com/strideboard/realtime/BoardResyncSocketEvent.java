@@ -0,0 +1,11 @@
+package com.strideboard.realtime;
+
+import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+
+import lombok.Data;
+
+// Frames of the project were lost on the way; clients reload the board instead of applying deltas
+@Data
+public class BoardResyncSocketEvent {
+    private final EventType type = EventType.RESYNC;
+}
@@ -0,0 +1,7 @@
+package com.strideboard.realtime;
+
+import java.util.UUID;
+
+// A user with the board open, as other viewers see them; no email, unlike UserSummary
+public record BoardViewer(UUID id, String fullName) {
+}
@@ -0,0 +1,258 @@
+package com.strideboard.realtime;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.strideboard.config.CacheInvalidations;
+import com.strideboard.data.id.UuidV7;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relays board events between server nodes over Postgres LISTEN/NOTIFY
+ * (app.realtime.cluster.enabled). BoardEventBroadcaster only publishes events of
+ * committed writes, so other nodes never see events of rolled-back ones.
+ *
+ * A notification is "node|eventId|target|kind|body", target being a project id,
+ * "user:" and a user id for per-user events, or "cache:" and a cache name for the
+ * evictions of CacheInvalidations (body = key). Payloads too large for
+ * NOTIFY (8000 bytes) are stored in realtime_events and sent by reference.
+ * Each node drops its own notifications and any event id it has already delivered.
+ * Publishing runs on its own thread, so a slow database never holds up local
+ * delivery or the request that committed; a full queue drops and counts.
+ *
+ * Notifications sent while the LISTEN connection is down are lost. After each
+ * reconnect the node therefore empties the caches of CacheInvalidations and sends
+ * RESYNC to every board subscribed on it. The realtime_events table is created
+ * from the RealtimeEvent entity with the rest of the schema.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.realtime.cluster.enabled", havingValue = "true")
+public class ClusterEventRelay {
+
+    private static final String CHANNEL = "strideboard_board_events";
+    private static final int MAX_INLINE_BYTES = 7000;
+    private static final String INLINE = "J";
+    private static final String REFERENCE = "R";
+    private static final String USER_TARGET = "user:";
+    private static final String CACHE_TARGET = "cache:";
+    private static final String PROJECT_TOPIC = "/topic/project/";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardEventBroadcaster broadcaster;
+    private final CacheInvalidations invalidations;
+    private final SimpUserRegistry userRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, Boolean> delivered;
+    private final Duration retention;
+    private final ThreadPoolExecutor publisher;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running = true;
+    private Thread listener;
+
+    public ClusterEventRelay(DataSource dataSource, JdbcTemplate jdbcTemplate, BoardEventBroadcaster broadcaster,
+            CacheInvalidations invalidations, SimpUserRegistry userRegistry,
+            @Value("${app.realtime.cluster.dedupe-window:5m}") Duration dedupeWindow,
+            @Value("${app.realtime.cluster.retention:5m}") Duration retention,
+            @Value("${app.realtime.cluster.queue-capacity:10000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.broadcaster = broadcaster;
+        this.invalidations = invalidations;
+        this.userRegistry = userRegistry;
+        this.retention = retention;
+        this.delivered = Caffeine.newBuilder()
+                .expireAfterWrite(dedupeWindow)
+                .maximumSize(100_000)
+                .build();
+        this.dropped = Counter.builder("strideboard.realtime.relay.dropped")
+                .description("Events not relayed to other nodes because the relay queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("strideboard.realtime.relay.failed")
+                .description("Events that could not be published to other nodes")
+                .register(meterRegistry);
+        // One thread keeps each node's events in order for the others
+        this.publisher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "board-event-relay");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        listener = new Thread(this::listen, "board-event-listener");
+        listener.setDaemon(true);
+        listener.start();
+        invalidations.attach((cache, key) -> publish(CACHE_TARGET + cache, key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        publisher.shutdown();
+        publisher.awaitTermination(5, TimeUnit.SECONDS);
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    // Called after commit; only queues, each NOTIFY then commits on its own
+    public void publish(UUID projectId, byte[] payload) {
+        publish(projectId.toString(), payload);
+    }
+
+    public void publishToUser(UUID userId, byte[] payload) {
+        publish(USER_TARGET + userId, payload);
+    }
+
+    private void publish(String target, byte[] payload) {
+        try {
+            publisher.execute(() -> {
+                try {
+                    sendNotification(target, payload);
+                } catch (RuntimeException e) {
+                    // Same as the listener: one failed event must not stop the relay
+                    failed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private void sendNotification(String target, byte[] payload) {
+        String eventId = UuidV7.next().toString();
+        String body = new String(payload, StandardCharsets.UTF_8);
+        String kind = INLINE;
+        if (payload.length > MAX_INLINE_BYTES) {
+            jdbcTemplate.update("INSERT INTO realtime_events (id, payload) VALUES (?, ?)",
+                    UUID.fromString(eventId), body);
+            kind = REFERENCE;
+            body = "";
+        }
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL,
+                String.join("|", nodeId, eventId, target, kind, body));
+    }
+
+    @Scheduled(fixedDelayString = "${app.realtime.cluster.retention:5m}")
+    public void pruneStoredEvents() {
+        jdbcTemplate.update("DELETE FROM realtime_events WHERE created_at < now() - make_interval(secs => ?)",
+                (double) retention.toSeconds());
+    }
+
+    // Holds one pooled connection for LISTEN for the node's lifetime; reconnects after failures
+    private void listen() {
+        boolean listenedBefore = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                if (listenedBefore) {
+                    recoverMissed();
+                }
+                listenedBefore = true;
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(1000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            try {
+                                receive(notification.getParameter());
+                            } catch (RuntimeException e) {
+                                // One bad event must not stop the relay
+                                log.warn("Dropped a relayed event that could not be delivered", e);
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Relay LISTEN connection failed, reconnecting", e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    // Runs once LISTEN is back, so nothing sent from here on is missed as well
+    private void recoverMissed() {
+        invalidations.clearAll();
+        Set<UUID> projects = new HashSet<>();
+        for (SimpSubscription subscription : userRegistry.findSubscriptions(
+                s -> s.getDestination().startsWith(PROJECT_TOPIC))) {
+            // StompSubscriptionInterceptor only lets valid project ids through
+            projects.add(UUID.fromString(subscription.getDestination().substring(PROJECT_TOPIC.length())));
+        }
+        projects.forEach(broadcaster::resyncLocally);
+        log.info("Relay reconnected; cleared shared caches and resynced {} boards", projects.size());
+    }
+
+    private void receive(String notification) {
+        String[] parts = notification.split("\\|", 5);
+        if (parts.length < 5 || parts[0].equals(nodeId) || delivered.asMap().putIfAbsent(parts[1], true) != null) {
+            return;
+        }
+        String body = parts[4];
+        if (REFERENCE.equals(parts[3])) {
+            List<String> stored = jdbcTemplate.queryForList("SELECT payload FROM realtime_events WHERE id = ?",
+                    String.class, UUID.fromString(parts[1]));
+            if (stored.isEmpty()) {
+                return;
+            }
+            body = stored.get(0);
+        }
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        if (parts[2].startsWith(CACHE_TARGET)) {
+            invalidations.receive(parts[2].substring(CACHE_TARGET.length()), body);
+        } else if (parts[2].startsWith(USER_TARGET)) {
+            broadcaster.deliverToUser(UUID.fromString(parts[2].substring(USER_TARGET.length())), payload);
+        } else {
+            broadcaster.deliver(UUID.fromString(parts[2]), payload);
+        }
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
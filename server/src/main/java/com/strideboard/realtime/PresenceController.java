@@ -0,0 +1,53 @@
+package com.strideboard.realtime;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.strideboard.auth.CurrentUser;
+import com.strideboard.data.project.ProjectRepository;
+import com.strideboard.workspace.WorkspaceAccessService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/projects/{workspaceId}/{projectId}/presence")
+@RequiredArgsConstructor
+public class PresenceController {
+
+    private final ProjectPresence presence;
+    private final ProjectRepository projectRepository;
+    private final WorkspaceAccessService workspaceAccess;
+
+    /**
+     * Users with the board open on this node right now; PRESENCE socket events carry the changes.
+     * 501 in cluster mode, where presence is switched off.
+     * Path: GET /api/projects/{workspaceId}/{projectId}/presence
+     */
+    @GetMapping
+    public ResponseEntity<List<BoardViewer>> getPresence(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            CurrentUser user) {
+
+        if (!workspaceAccess.isMember(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        if (projectRepository.findBoardVersion(projectId, workspaceId).isEmpty()) {
+            return ResponseEntity.status(400).build();
+        }
+
+        if (!presence.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+
+        return ResponseEntity.ok(presence.viewers(projectId));
+    }
+}
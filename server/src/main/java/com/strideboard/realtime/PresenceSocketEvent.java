@@ -0,0 +1,18 @@
+package com.strideboard.realtime;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Viewers who started or stopped looking at the board since the last presence event
+@Data
+@AllArgsConstructor
+public class PresenceSocketEvent {
+    private final EventType type = EventType.PRESENCE;
+    private List<BoardViewer> joined;
+    private List<UUID> left;
+}
@@ -0,0 +1,227 @@
+package com.strideboard.realtime;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.strideboard.auth.CurrentUser;
+
+/**
+ * Who is looking at which board, from signed-in sessions' subscriptions to
+ * /topic/project/{id}. Registered after StompSubscriptionInterceptor, so only
+ * subscriptions that passed its membership check are seen. Memory only and per
+ * node: every inbound frame, STOMP heartbeats included, refreshes its session, and
+ * sessions silent for longer than app.realtime.presence.timeout are dropped even
+ * without a DISCONNECT.
+ *
+ * Join/leave events are worked out on a timer rather than per subscription. A user
+ * missing at a tick is only marked absent; the leave goes out at a later tick once
+ * they have stayed away for the whole debounce window, so a reconnect in between
+ * (even one spanning a tick) sends nothing.
+ *
+ * Because a node only knows its own sessions, presence is switched off in cluster
+ * mode (app.realtime.cluster.enabled): nothing is tracked or announced there.
+ */
+@Component
+public class ProjectPresence implements ChannelInterceptor {
+
+    private static final String TOPIC = "/topic/project/";
+    private static final long PRESENT = -1;
+
+    private final ObjectProvider<BoardEventBroadcaster> broadcaster;
+    private final long timeoutMillis;
+    private final long debounceMillis;
+    private final boolean enabled;
+    private final Map<String, ViewerSession> sessions = new ConcurrentHashMap<>();
+
+    // Only touched by announce(): project -> user -> PRESENT, or when the user was first found absent
+    private final Map<UUID, Map<UUID, Long>> announced = new HashMap<>();
+
+    // Lazy: the broadcaster needs the messaging template, which needs this interceptor
+    public ProjectPresence(ObjectProvider<BoardEventBroadcaster> broadcaster,
+            @Value("${app.realtime.presence.timeout:30s}") Duration timeout,
+            @Value("${app.realtime.presence.debounce:3s}") Duration debounce,
+            @Value("${app.realtime.cluster.enabled:false}") boolean cluster) {
+        this.broadcaster = broadcaster;
+        this.timeoutMillis = timeout.toMillis();
+        this.debounceMillis = debounce.toMillis();
+        this.enabled = !cluster;
+    }
+
+    // One signed-in STOMP session; subscriptions maps subscription id -> project
+    private static final class ViewerSession {
+        final BoardViewer user;
+        final Map<String, UUID> subscriptions = new ConcurrentHashMap<>();
+        volatile long lastSeen = System.currentTimeMillis();
+
+        ViewerSession(BoardViewer user) {
+            this.user = user;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            subscribe(accessor);
+            return message;
+        }
+        ViewerSession session = sessions.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        if (session != null) {
+            session.lastSeen = System.currentTimeMillis();
+        }
+        return message;
+    }
+
+    // Reached only once StompSubscriptionInterceptor, earlier in the chain, let the SUBSCRIBE through
+    private void subscribe(StompHeaderAccessor accessor) {
+        UUID projectId = projectOf(accessor.getDestination());
+        BoardViewer user = userOf(accessor.getUser());
+        if (projectId == null || user == null) {
+            return;
+        }
+        ViewerSession session = sessions.computeIfAbsent(accessor.getSessionId(), id -> new ViewerSession(user));
+        session.subscriptions.put(accessor.getSubscriptionId(), projectId);
+        session.lastSeen = System.currentTimeMillis();
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        ViewerSession session = sessions.get(accessor.getSessionId());
+        if (session != null) {
+            session.subscriptions.remove(accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    public List<BoardViewer> viewers(UUID projectId) {
+        Map<UUID, BoardViewer> viewers = new LinkedHashMap<>();
+        for (ViewerSession session : sessions.values()) {
+            if (session.subscriptions.containsValue(projectId)) {
+                viewers.putIfAbsent(session.user.id(), session.user);
+            }
+        }
+        return new ArrayList<>(viewers.values());
+    }
+
+    @Scheduled(fixedDelayString = "${app.realtime.presence.debounce:3s}")
+    public void announce() {
+        if (!enabled) {
+            return;
+        }
+        BoardEventBroadcaster target = broadcaster.getObject();
+        changes(System.currentTimeMillis()).forEach(target::send);
+    }
+
+    // One tick: the presence event of every project whose viewers changed
+    Map<UUID, PresenceSocketEvent> changes(long now) {
+        sessions.values().removeIf(session -> now - session.lastSeen > timeoutMillis);
+
+        // project -> users present now, in one pass over the sessions
+        Map<UUID, Map<UUID, BoardViewer>> present = new HashMap<>();
+        for (ViewerSession session : sessions.values()) {
+            for (UUID projectId : session.subscriptions.values()) {
+                present.computeIfAbsent(projectId, id -> new HashMap<>()).putIfAbsent(session.user.id(), session.user);
+            }
+        }
+
+        Map<UUID, List<BoardViewer>> joined = new HashMap<>();
+        present.forEach((projectId, users) -> {
+            Map<UUID, Long> known = announced.computeIfAbsent(projectId, id -> new HashMap<>());
+            users.forEach((userId, user) -> {
+                if (known.put(userId, PRESENT) == null) {
+                    joined.computeIfAbsent(projectId, id -> new ArrayList<>()).add(user);
+                }
+            });
+        });
+
+        Map<UUID, List<UUID>> left = new HashMap<>();
+        for (Iterator<Map.Entry<UUID, Map<UUID, Long>>> it = announced.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<UUID, Map<UUID, Long>> project = it.next();
+            Map<UUID, BoardViewer> here = present.getOrDefault(project.getKey(), Map.of());
+            project.getValue().entrySet().removeIf(user -> {
+                if (here.containsKey(user.getKey())) {
+                    return false;
+                }
+                if (user.getValue() == PRESENT) {
+                    // Absent from now on; announced only if still away a full window later
+                    user.setValue(now);
+                    return false;
+                }
+                boolean gone = now - user.getValue() >= debounceMillis;
+                if (gone) {
+                    left.computeIfAbsent(project.getKey(), id -> new ArrayList<>()).add(user.getKey());
+                }
+                return gone;
+            });
+            if (project.getValue().isEmpty()) {
+                it.remove();
+            }
+        }
+
+        Set<UUID> changed = new HashSet<>(joined.keySet());
+        changed.addAll(left.keySet());
+        Map<UUID, PresenceSocketEvent> events = new HashMap<>();
+        for (UUID projectId : changed) {
+            events.put(projectId, new PresenceSocketEvent(joined.getOrDefault(projectId, List.of()),
+                    left.getOrDefault(projectId, List.of())));
+        }
+        return events;
+    }
+
+    private static UUID projectOf(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(TOPIC.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Set by StompAuthenticationInterceptor; anonymous sessions are not tracked
+    private static BoardViewer userOf(Principal principal) {
+        if (principal instanceof Authentication auth && auth.getDetails() instanceof CurrentUser user) {
+            return new BoardViewer(user.id(), user.fullName());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.strideboard.realtime;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.strideboard.data.workitem.WorkItemView;
+import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One frame for a whole batch: upserted items plus deleted ids
+@Data
+@AllArgsConstructor
+public class WorkItemBatchSocketEvent {
+    private final EventType type = EventType.BATCH;
+    private List<WorkItemView> workItems;
+    private List<UUID> workItemIds;
+}
@@ -0,0 +1,65 @@
+package com.strideboard.realtime;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.strideboard.data.workitem.WorkItemMoveResult;
+import com.strideboard.data.workitem.WorkItemUpdateResult;
+import com.strideboard.data.workitem.WorkItemView;
+import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * UPDATED without the full item: only the written fields, keyed by their WorkItem
+ * property names. A client whose copy is not at baseVersion cannot apply it and
+ * should fetch the full item (GET .../work-items/{workItemId}) instead.
+ */
+@Data
+@AllArgsConstructor
+public class WorkItemDeltaSocketEvent {
+    private final EventType type = EventType.PATCHED;
+    private UUID workItemId;
+    private long baseVersion;
+    private long version;
+    private long boardVersion;
+    private LocalDateTime updatedAt;
+    private Map<String, Object> changes;
+
+    // Full state for BoardEventCoalescer, which merges repeated changes into one item;
+    // null for moves, which the coalescer passes through instead
+    @JsonIgnore
+    private WorkItemView workItem;
+
+    public static WorkItemDeltaSocketEvent of(WorkItemUpdateResult result) {
+        WorkItemView item = result.item();
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (String field : result.fields()) {
+            changes.put(field, switch (field) {
+                case "title" -> item.title();
+                case "description" -> item.description();
+                case "status" -> item.status();
+                case "priority" -> item.priority();
+                case "type" -> item.type();
+                case "position" -> item.position();
+                case "assignee" -> item.assignee();
+                default -> throw new IllegalArgumentException("Unknown work item field " + field);
+            });
+        }
+        return new WorkItemDeltaSocketEvent(item.id(), result.previousVersion(), item.version(), item.boardVersion(),
+                item.updatedAt(), changes, item);
+    }
+
+    // A move bumps the version by exactly one, so the base is the version before it
+    public static WorkItemDeltaSocketEvent of(WorkItemMoveResult result) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("status", result.status());
+        changes.put("position", result.position());
+        return new WorkItemDeltaSocketEvent(result.id(), result.version() - 1, result.version(),
+                result.boardVersion(), result.updatedAt(), changes, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.strideboard.realtime;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Every item of the project in board order; item i now sits at (i + 1) * step, its version one higher
+@Data
+@AllArgsConstructor
+public class WorkItemReorderSocketEvent {
+    private final EventType type = EventType.REORDERED;
+    private List<UUID> workItemIds;
+    private double step;
+}
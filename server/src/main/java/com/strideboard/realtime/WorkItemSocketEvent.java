@@ -1,6 +1,6 @@
 package com.strideboard.realtime;
 
-import com.strideboard.data.workitem.WorkItem;
+import com.strideboard.data.workitem.WorkItemView;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,11 +8,11 @@ import lombok.Data;
 @Data
 @AllArgsConstructor
 public class WorkItemSocketEvent {
-    private EventType type; // "CREATED", "UPDATED", "DELETED"
-    private WorkItem workItem;
+    private EventType type; // "CREATED", "UPDATED", "DELETED" ("BATCH"/"REORDERED"/"PATCHED"/"PRESENCE"/"RESYNC"/"REPLAY" use their own event classes)
+    private WorkItemView workItem;
     private String workItemId; 
 
     public enum EventType {
-        CREATED, UPDATED, DELETED
+        CREATED, UPDATED, DELETED, BATCH, REORDERED, PATCHED, PRESENCE, RESYNC, REPLAY
     }
 }
\ No newline at end of file
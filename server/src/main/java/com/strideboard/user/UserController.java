@@ -1,5 +1,8 @@
 package com.strideboard.user;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.strideboard.auth.CurrentUser;
 import com.strideboard.auth.JpaUserDetailsService;
 import com.strideboard.auth.TokenService;
 import com.strideboard.data.user.ChangePasswordRequest;
@@ -26,22 +30,23 @@ public class UserController {
     }
 
     // GET /api/users/me
+    // From the database, not the token: claims of a token issued before a profile change are stale
     @GetMapping("/me")
-    public UserInfo getProfile(Authentication auth) {
-        return userService.getUserInfo(auth.getName());
+    public UserInfo getProfile(CurrentUser user) {
+        return userService.getUserInfo(user.id());
     }
 
     // PATCH /api/users/me
     @PatchMapping("/me")
-    public ProfileUpdateResponse updateProfile(Authentication auth, @RequestBody UserInfo request) {
+    public ProfileUpdateResponse updateProfile(CurrentUser user, @RequestBody UserInfo request) {
         // Update the user in the database
-        UserInfo updatedUser = userService.updateUserInfo(auth.getName(), request);
+        UserInfo updatedUser = userService.updateUserInfo(user.id(), request);
 
         // Create a new Authentication object with the NEW email
         Authentication newAuth = new UsernamePasswordAuthenticationToken(
                 updatedUser.email(),
                 null,
-                auth.getAuthorities());
+                List.of());
 
         // Generate a new token based on the new info
         String newToken = tokenService.generateToken(newAuth);
@@ -52,7 +57,7 @@ public class UserController {
 
     // PATCH /api/users/me/password
     @PatchMapping("/me/password")
-    public void changePassword(Authentication auth, @RequestBody ChangePasswordRequest request) {
-        userService.changePassword(auth.getName(), request);
+    public CompletableFuture<Void> changePassword(CurrentUser user, @RequestBody ChangePasswordRequest request) {
+        return userService.changePassword(user.id(), request);
     }
 }
@@ -0,0 +1,59 @@
+package com.strideboard.workItem;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.strideboard.config.AfterCommit;
+import com.strideboard.data.project.ProjectRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Hands out positions at the end of a project from a tail kept on the project row,
+ * instead of a MAX(position) scan per insert. Callers already hold the project row
+ * lock through WorkItemService.nextBoardVersion, so concurrent creates never share a slot.
+ * Projects that received client-chosen positions are remembered for PositionRebalancer.
+ */
+@Component
+@RequiredArgsConstructor
+public class PositionAllocator {
+
+    public static final double STEP = 1000.0;
+
+    private final ProjectRepository projectRepository;
+
+    private final Set<UUID> touchedProjects = ConcurrentHashMap.newKeySet();
+
+    // Reserves count consecutive slots and returns the first
+    public double allocate(UUID projectId, int count) {
+        projectRepository.advancePositionTail(projectId, count * STEP);
+        return projectRepository.getPositionTail(projectId) - (count - 1) * STEP;
+    }
+
+    // Positions supplied by clients, e.g. drag-and-drop midpoints
+    public void positionWritten(UUID projectId, double position) {
+        projectRepository.raisePositionTail(projectId, position);
+        // Marked only once committed, so the rebalancer never scans for gaps the write has not made yet
+        AfterCommit.run(() -> touchedProjects.add(projectId));
+    }
+
+    // Puts a project back for the next run, e.g. after its rebalance failed
+    void markTouched(UUID projectId) {
+        touchedProjects.add(projectId);
+    }
+
+    List<UUID> drainTouchedProjects() {
+        List<UUID> drained = new ArrayList<>();
+        for (Iterator<UUID> it = touchedProjects.iterator(); it.hasNext();) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,92 @@
+package com.strideboard.workItem;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.strideboard.data.project.ProjectRepository;
+import com.strideboard.data.workitem.WorkItemRepository;
+import com.strideboard.realtime.BoardEventBroadcaster;
+import com.strideboard.realtime.WorkItemReorderSocketEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Repeated midpoint drags halve the gap between neighbours until doubles run out of
+ * precision. Projects whose smallest gap fell below app.work-items.positions.min-gap
+ * are renumbered to STEP, 2*STEP, ... in one set-based UPDATE and clients get a
+ * single REORDERED event. A project whose rebalance fails is retried on the next
+ * runs, up to app.work-items.positions.max-attempts, then left until a write
+ * touches it again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PositionRebalancer {
+
+    private final PositionAllocator positionAllocator;
+    private final WorkItemService workItemService;
+    private final WorkItemRepository workItemRepository;
+    private final ProjectRepository projectRepository;
+    private final BoardEventBroadcaster broadcaster;
+    private final TransactionTemplate transactionTemplate;
+
+    // Only touched by the scheduled run: project -> consecutive failed rebalances
+    private final Map<UUID, Integer> failures = new HashMap<>();
+
+    @Value("${app.work-items.positions.min-gap:0.001}")
+    private double minGap;
+
+    @Value("${app.work-items.positions.max-attempts:5}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${app.work-items.positions.rebalance-interval:30s}")
+    public void rebalanceTouchedProjects() {
+        for (UUID projectId : positionAllocator.drainTouchedProjects()) {
+            List<UUID> order;
+            try {
+                order = transactionTemplate.execute(status -> rebalance(projectId));
+            } catch (RuntimeException e) {
+                // One failing project must not cost the rest of the drained set
+                int attempts = failures.merge(projectId, 1, Integer::sum);
+                if (attempts < maxAttempts) {
+                    log.warn("Rebalancing project {} failed (attempt {} of {}), retrying next run",
+                            projectId, attempts, maxAttempts, e);
+                    positionAllocator.markTouched(projectId);
+                } else {
+                    log.error("Rebalancing project {} failed {} times, giving up until it is written again",
+                            projectId, attempts, e);
+                    failures.remove(projectId);
+                }
+                continue;
+            }
+            failures.remove(projectId);
+            if (order != null) {
+                broadcaster.send(projectId, new WorkItemReorderSocketEvent(order, PositionAllocator.STEP));
+            }
+        }
+    }
+
+    // Returns the new order, or null when the gaps are still healthy
+    private List<UUID> rebalance(UUID projectId) {
+        Double gap = workItemRepository.findMinPositionGap(projectId);
+        if (gap == null || gap >= minGap) {
+            return null;
+        }
+
+        // Takes the project row lock, so no write interleaves with the renumbering
+        long version = workItemService.nextBoardVersion(projectId);
+        workItemRepository.renumberPositions(projectId, PositionAllocator.STEP, version);
+
+        List<UUID> order = workItemRepository.findIdsInPositionOrder(projectId);
+        projectRepository.resetPositionTail(projectId, order.size() * PositionAllocator.STEP);
+        return order;
+    }
+}
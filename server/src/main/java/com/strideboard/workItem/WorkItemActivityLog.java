@@ -0,0 +1,118 @@
+package com.strideboard.workItem;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.strideboard.config.AfterCommit;
+import com.strideboard.data.workitem.WorkItemActivity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind work item history. Requests only enqueue entries, after their
+ * transaction commits; a scheduled writer drains the bounded queue into
+ * work_item_activity with JDBC batch inserts, and once more on shutdown. When the
+ * queue is full new entries are dropped and counted rather than slowing writers down.
+ * A batch that fails to insert goes back on the queue for the next run; inserts
+ * ignore ids already written, so a partly applied batch is safe to retry.
+ */
+@Component
+public class WorkItemActivityLog {
+
+    private static final String INSERT = "INSERT INTO work_item_activity"
+            + " (id, work_item_id, project_id, actor_id, action, field, old_value, new_value, occurred_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<WorkItemActivity> queue;
+    private final Counter dropped;
+    private final Counter failedWrites;
+    private final int batchSize;
+
+    public WorkItemActivityLog(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${app.work-items.activity.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.work-items.activity.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+
+        Gauge.builder("strideboard.activity.queue", queue, BlockingQueue::size)
+                .description("Work item activity entries waiting to be written")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("strideboard.activity.dropped")
+                .description("Work item activity entries dropped because the queue was full")
+                .register(meterRegistry);
+        this.failedWrites = Counter.builder("strideboard.activity.write.failures")
+                .description("Activity batches that failed to insert and were queued again")
+                .register(meterRegistry);
+    }
+
+    // Null entries (unchanged fields) are skipped; nothing is queued if the transaction rolls back
+    public void record(List<WorkItemActivity> entries) {
+        List<WorkItemActivity> changes = entries.stream().filter(Objects::nonNull).toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> changes.forEach(entry -> {
+            if (!queue.offer(entry)) {
+                dropped.increment();
+            }
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${app.work-items.activity.flush-interval:1s}")
+    public synchronized void flush() {
+        List<WorkItemActivity> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                insert(batch);
+            } catch (RuntimeException e) {
+                failedWrites.increment();
+                requeue(batch);
+                // The database is likely unavailable; try again on the next run
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void insert(List<WorkItemActivity> batch) {
+        jdbcTemplate.batchUpdate(INSERT, batch, batchSize, (ps, entry) -> {
+            ps.setObject(1, entry.getId());
+            ps.setObject(2, entry.getWorkItemId());
+            ps.setObject(3, entry.getProjectId());
+            ps.setObject(4, entry.getActorId());
+            ps.setString(5, entry.getAction().name());
+            ps.setString(6, entry.getField());
+            ps.setString(7, entry.getOldValue());
+            ps.setString(8, entry.getNewValue());
+            ps.setTimestamp(9, Timestamp.valueOf(entry.getOccurredAt()));
+        });
+    }
+
+    // Entries that no longer fit behind newer ones are dropped, as in record()
+    private void requeue(List<WorkItemActivity> batch) {
+        for (WorkItemActivity entry : batch) {
+            if (!queue.offer(entry)) {
+                dropped.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.strideboard.workItem;
+
+import com.strideboard.data.workitem.WorkItemView;
+
+/**
+ * A write named a work item version that is no longer current. Thrown inside the
+ * write transaction so it rolls back; WorkItemController answers 409 with the
+ * current state so the client can merge and retry.
+ */
+public class WorkItemConflictException extends RuntimeException {
+
+    private final transient WorkItemView current;
+
+    public WorkItemConflictException(WorkItemView current) {
+        super("Work item " + current.id() + " is at version " + current.version());
+        this.current = current;
+    }
+
+    public WorkItemView getCurrent() {
+        return current;
+    }
+}
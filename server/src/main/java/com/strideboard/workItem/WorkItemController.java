@@ -3,36 +3,58 @@ package com.strideboard.workItem;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import com.strideboard.data.notification.Notification;
-import com.strideboard.data.notification.NotificationRepository;
-import com.strideboard.data.notification.NotificationType;
+import com.strideboard.auth.CurrentUser;
+import com.strideboard.config.ETags;
+import com.strideboard.data.project.BoardSyncState;
 import com.strideboard.data.project.Project;
 import com.strideboard.data.project.ProjectRepository;
-import com.strideboard.data.user.User;
-import com.strideboard.data.user.UserRepository;
 import com.strideboard.data.workitem.CreateWorkItemRequest;
+import com.strideboard.data.workitem.MoveWorkItemRequest;
 import com.strideboard.data.workitem.UpdateWorkItemRequest;
 import com.strideboard.data.workitem.WorkItem;
+import com.strideboard.data.workitem.WorkItemActivity;
+import com.strideboard.data.workitem.WorkItemActivityCursor;
+import com.strideboard.data.workitem.WorkItemActivityPage;
+import com.strideboard.data.workitem.WorkItemActivityRepository;
+import com.strideboard.data.workitem.WorkItemBatchRequest;
+import com.strideboard.data.workitem.WorkItemBatchResult;
+import com.strideboard.data.workitem.WorkItemChanges;
+import com.strideboard.data.workitem.WorkItemCursor;
+import com.strideboard.data.workitem.WorkItemFilter;
+import com.strideboard.data.workitem.WorkItemMoveResult;
+import com.strideboard.data.workitem.WorkItemOperation;
+import com.strideboard.data.workitem.WorkItemPage;
 import com.strideboard.data.workitem.WorkItemPriority;
 import com.strideboard.data.workitem.WorkItemRepository;
+import com.strideboard.data.workitem.WorkItemSort;
 import com.strideboard.data.workitem.WorkItemStatus;
+import com.strideboard.data.workitem.WorkItemTombstoneRepository;
 import com.strideboard.data.workitem.WorkItemType;
-import com.strideboard.data.workspace.Membership;
-import com.strideboard.data.workspace.MembershipRepository;
+import com.strideboard.data.workitem.WorkItemUpdateResult;
+import com.strideboard.data.workitem.WorkItemView;
+import com.strideboard.realtime.BoardEventBroadcaster;
+import com.strideboard.realtime.WorkItemBatchSocketEvent;
+import com.strideboard.realtime.WorkItemDeltaSocketEvent;
 import com.strideboard.realtime.WorkItemSocketEvent;
 import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+import com.strideboard.workspace.WorkspaceAccessService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -42,220 +64,321 @@ import lombok.RequiredArgsConstructor;
 public class WorkItemController {
 
     private final WorkItemRepository workItemRepository;
+    private final WorkItemTombstoneRepository tombstoneRepository;
+    private final WorkItemActivityRepository activityRepository;
     private final ProjectRepository projectRepository;
-    private final MembershipRepository membershipRepository;
-    private final UserRepository userRepository;
-    private final NotificationRepository notificationRepository;
+    private final WorkItemService workItemService;
+    private final WorkspaceAccessService workspaceAccess;
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final BoardEventBroadcaster broadcaster;
 
-    private void broadcastChange(UUID projectId, WorkItemSocketEvent event) {
-        // Broadcasts to: /topic/project/{projectId}
-        messagingTemplate.convertAndSend("/topic/project/" + projectId, event);
-    }
+    @Value("${app.work-items.page-size.default:100}")
+    private int defaultPageSize;
+
+    @Value("${app.work-items.page-size.max:500}")
+    private int maxPageSize;
 
+    @Value("${app.work-items.batch.max-operations:500}")
+    private int maxBatchOperations;
+
+    /**
+     * Board listing, optionally filtered and sorted on the server. Honours If-None-Match
+     * against the project's board version, answering 304 without touching the work_items table.
+     * Path: GET .../work-items?status=&priority=&type=&assigneeId=&unassigned=&sort=&direction=
+     * Repeat a filter parameter (or comma-separate it) to match any of several values.
+     */
     @GetMapping
-    public ResponseEntity<List<WorkItem>> getProjectWorkItems(
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<WorkItemView>> getProjectWorkItems(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
-            Authentication auth) {
+            @RequestParam(name = "status", required = false) List<WorkItemStatus> statuses,
+            @RequestParam(name = "priority", required = false) List<WorkItemPriority> priorities,
+            @RequestParam(name = "type", required = false) List<WorkItemType> types,
+            @RequestParam(name = "assigneeId", required = false) List<UUID> assigneeIds,
+            @RequestParam(defaultValue = "false") boolean unassigned,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            CurrentUser user,
+            WebRequest webRequest) {
+
+        if (!workspaceAccess.isMember(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
+        }
 
-        User user = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // Version is read before the items so the tag never claims newer data than the body
+        Long version = projectRepository.findBoardVersion(projectId, workspaceId).orElse(null);
+        if (version == null) {
+            return ResponseEntity.status(400).build();
+        }
 
-        if (!membershipRepository.existsByUserIdAndWorkspaceId(user.getId(), workspaceId)) {
+        WorkItemSort sortKey;
+        try {
+            sortKey = WorkItemSort.fromParam(sort);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean descending = "desc".equalsIgnoreCase(direction);
+        if (!descending && !"asc".equalsIgnoreCase(direction)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // The tag tracks the whole board; a filtered view is cached under its own URL
+        if (webRequest.checkNotModified(ETags.ofVersion(projectId, version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ETags.REVALIDATE).build();
+        }
+
+        WorkItemFilter filter = new WorkItemFilter(statuses, priorities, types, assigneeIds, unassigned);
+        List<WorkItemView> items = filter.isEmpty() && sortKey == WorkItemSort.POSITION && !descending
+                ? workItemRepository.findViewsByProjectId(projectId)
+                : workItemRepository.findViews(projectId, filter, sortKey, descending);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(items);
+    }
+
+    /**
+     * Keyset-paginated board, same order as the full listing (position, then id).
+     * Path: GET /api/projects/{workspaceId}/{projectId}/work-items/page?cursor=&size=
+     */
+    @GetMapping("/page")
+    public ResponseEntity<WorkItemPage> getProjectWorkItemsPage(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            CurrentUser user) {
+
+        if (!workspaceAccess.isMember(user, workspaceId)) {
             return ResponseEntity.status(403).build();
         }
 
-        // Validate Project Hierarchy
         if (!validateProjectInWorkspace(projectId, workspaceId)) {
             return ResponseEntity.status(400).build();
         }
 
-        return ResponseEntity.ok(workItemRepository.findByProject_IdOrderByPositionAsc(projectId));
+        int pageSize = Math.min(size != null && size > 0 ? size : defaultPageSize, maxPageSize);
+
+        WorkItemCursor after;
+        try {
+            after = cursor != null ? WorkItemCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<WorkItemView> items = after == null
+                ? workItemRepository.findFirstPage(projectId, limit)
+                : workItemRepository.findPageAfter(projectId, after.position(), after.id(), limit);
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            nextCursor = WorkItemCursor.of(items.get(pageSize - 1)).encode();
+        }
+
+        return ResponseEntity.ok(new WorkItemPage(items, nextCursor));
     }
 
-    @PostMapping
-    public ResponseEntity<WorkItem> createWorkItem(
+    /**
+     * Items written and ids deleted after the given board version. Clients pass the
+     * highest boardVersion they hold (or the previous response's version).
+     * Path: GET /api/projects/{workspaceId}/{projectId}/work-items/changes?since=
+     */
+    @GetMapping("/changes")
+    @Transactional(readOnly = true)
+    public ResponseEntity<WorkItemChanges> getWorkItemChanges(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
-            @RequestBody CreateWorkItemRequest request,
-            Authentication auth) {
+            @RequestParam long since,
+            CurrentUser user) {
+
+        if (!workspaceAccess.isMember(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
+        }
 
-        User creator = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // Read the version first; anything committed later is picked up by the next call
+        BoardSyncState state = projectRepository.findSyncState(projectId, workspaceId).orElse(null);
+        if (state == null) {
+            return ResponseEntity.status(400).build();
+        }
 
-        Membership membership = membershipRepository.findByUserIdAndWorkspaceId(creator.getId(), workspaceId)
-                .orElse(null);
+        long version = state.boardVersion();
+        if (since < state.tombstoneFloor() || since > version) {
+            return ResponseEntity.ok(new WorkItemChanges(version, true, List.of(), List.of()));
+        }
+        if (since == version) {
+            return ResponseEntity.ok(new WorkItemChanges(version, false, List.of(), List.of()));
+        }
 
-        // Security: Must be ADMIN or MEMBER (not VIEWER)
-        if (membership == null || "VIEWER".equalsIgnoreCase(membership.getRole())) {
+        return ResponseEntity.ok(new WorkItemChanges(version, false,
+                workItemRepository.findChangedSince(projectId, since),
+                tombstoneRepository.findDeletedIdsSince(projectId, since)));
+    }
+
+    /**
+     * One item in full, for clients that cannot apply a PATCHED socket event to their copy.
+     * Path: GET /api/projects/{workspaceId}/{projectId}/work-items/{workItemId}
+     */
+    @GetMapping("/{workItemId}")
+    public ResponseEntity<WorkItemView> getWorkItem(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            @PathVariable UUID workItemId,
+            CurrentUser user) {
+
+        if (!workspaceAccess.isMember(user, workspaceId)) {
             return ResponseEntity.status(403).build();
         }
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
+        if (projectRepository.findBoardVersion(projectId, workspaceId).isEmpty()) {
+            return ResponseEntity.status(400).build();
+        }
 
-        if (!project.getWorkspace().getId().equals(workspaceId)) {
+        return workItemRepository.findViewByIdAndProjectId(workItemId, projectId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * History of one work item, newest first, keyset-paginated like /page. Entries are
+     * written behind by WorkItemActivityLog, so the latest change may lag by a flush interval.
+     * Path: GET /api/projects/{workspaceId}/{projectId}/work-items/{workItemId}/activity?cursor=&size=
+     */
+    @GetMapping("/{workItemId}/activity")
+    public ResponseEntity<WorkItemActivityPage> getWorkItemActivity(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            @PathVariable UUID workItemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            CurrentUser user) {
+
+        if (!workspaceAccess.isMember(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        if (projectRepository.findBoardVersion(projectId, workspaceId).isEmpty()) {
             return ResponseEntity.status(400).build();
         }
 
-        if (request.title() == null || request.title().isBlank()) {
+        int pageSize = Math.min(size != null && size > 0 ? size : defaultPageSize, maxPageSize);
+
+        WorkItemActivityCursor before;
+        try {
+            before = cursor != null ? WorkItemActivityCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
 
-        // Handle Assignee
-        User assignee = null;
-        if (request.assigneeId() != null) {
-            assignee = userRepository.findById(request.assigneeId())
-                    .orElseThrow(() -> new RuntimeException("Assignee not found"));
+        Limit limit = Limit.of(pageSize + 1);
+        List<WorkItemActivity> entries = before == null
+                ? activityRepository.findFirstPage(workItemId, projectId, limit)
+                : activityRepository.findPageBefore(workItemId, projectId, before.occurredAt(), before.id(), limit);
 
-            if (!membershipRepository.existsByUserIdAndWorkspaceId(assignee.getId(), workspaceId)) {
-                return ResponseEntity.badRequest().build();
-            }
+        String nextCursor = null;
+        if (entries.size() > pageSize) {
+            entries = entries.subList(0, pageSize);
+            nextCursor = WorkItemActivityCursor.of(entries.get(pageSize - 1)).encode();
         }
 
-        // Auto-position logic
-        Double maxPosition = workItemRepository.findMaxPositionByProjectId(projectId);
-        double newPosition = (maxPosition != null) ? maxPosition + 1000.0 : 1000.0;
-
-        WorkItem workItem = WorkItem.builder()
-                .title(request.title())
-                .description(request.description())
-                .status(request.status() != null ? request.status() : WorkItemStatus.BACKLOG)
-                .priority(request.priority() != null ? request.priority() : WorkItemPriority.MEDIUM)
-                .type(request.type() != null ? request.type() : WorkItemType.TASK)
-                .position(newPosition)
-                .project(project)
-                .creator(creator)
-                .assignee(assignee)
-                .build();
-
-        WorkItem savedWorkItem = workItemRepository.save(workItem);
-
-        // Send Notification
-        if (assignee != null && !assignee.getId().equals(creator.getId())) {
-            Notification notification = Notification.builder()
-                    .recipient(assignee)
-                    .type(NotificationType.UPDATE)
-                    .workspace(project.getWorkspace())
-                    .workItem(savedWorkItem)
-                    .title("New Task Assigned")
-                    .subtitle("You have been assigned to: " + savedWorkItem.getTitle())
-                    .build();
-            notificationRepository.save(notification);
+        return ResponseEntity.ok(new WorkItemActivityPage(entries, nextCursor));
+    }
+
+    @PostMapping
+    @Transactional
+    public ResponseEntity<WorkItemView> createWorkItem(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            @RequestBody CreateWorkItemRequest request,
+            CurrentUser user) {
+
+        // Security: Must be ADMIN or MEMBER (not VIEWER)
+        if (!workspaceAccess.canEdit(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+
+        if (!project.getWorkspace().getId().equals(workspaceId)) {
+            return ResponseEntity.status(400).build();
         }
 
-        broadcastChange(projectId, new WorkItemSocketEvent(EventType.CREATED, savedWorkItem, null));
-        return ResponseEntity.ok(savedWorkItem);
+        long version = workItemService.nextBoardVersion(projectId);
+        WorkItemView view = WorkItemView.from(workItemService.create(project, request, user.id(),
+                workItemService.nextPosition(projectId), version));
+
+        broadcaster.send(projectId, new WorkItemSocketEvent(EventType.CREATED, view, null));
+        return ResponseEntity.ok(view);
     }
 
+    /**
+     * Partial update of the supplied fields in one statement. Send the item's version
+     * to have a concurrent change rejected with 409 and the current item.
+     */
     @PatchMapping("/{workItemId}")
-    public ResponseEntity<WorkItem> updateWorkItem(
+    @Transactional
+    public ResponseEntity<WorkItemView> updateWorkItem(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
             @PathVariable UUID workItemId,
             @RequestBody UpdateWorkItemRequest request,
-            Authentication auth) {
-
-        User user = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            CurrentUser user) {
 
-        Membership membership = membershipRepository.findByUserIdAndWorkspaceId(user.getId(), workspaceId)
-                .orElse(null);
-
-        if (membership == null || "VIEWER".equalsIgnoreCase(membership.getRole())) {
+        if (!workspaceAccess.canEdit(user, workspaceId)) {
             return ResponseEntity.status(403).build();
         }
 
-        WorkItem workItem = workItemRepository.findById(workItemId)
-                .orElseThrow(() -> new RuntimeException("Work item not found"));
-
-        if (!validateHierarchy(workItem, projectId, workspaceId)) {
+        if (projectRepository.findBoardVersion(projectId, workspaceId).isEmpty()) {
             return ResponseEntity.status(400).build();
         }
-        UUID oldAssigneeId = (workItem.getAssignee() != null) ? workItem.getAssignee().getId() : null;
-
-        // Apply Updates
-        if (request.title() != null && !request.title().isBlank())
-            workItem.setTitle(request.title());
-        if (request.description() != null)
-            workItem.setDescription(request.description());
-        if (request.status() != null)
-            workItem.setStatus(request.status());
-        if (request.priority() != null)
-            workItem.setPriority(request.priority());
-        if (request.type() != null)
-            workItem.setType(request.type());
-        if (request.position() != null)
-            workItem.setPosition(request.position());
-
-        // Update Assignee
-        if (Boolean.TRUE.equals(request.removeAssignee())) {
-            // Explicitly remove assignee
-            workItem.setAssignee(null);
-        } else if (request.assigneeId() != null) {
-            // Update to a specific new assignee
-            User assignee = userRepository.findById(request.assigneeId())
-                    .orElseThrow(() -> new RuntimeException("Assignee not found"));
-
-            if (!membershipRepository.existsByUserIdAndWorkspaceId(assignee.getId(), workspaceId)) {
-                return ResponseEntity.badRequest().build();
-            }
-            workItem.setAssignee(assignee);
+
+        WorkItemUpdateResult result = workItemService.update(projectId, workspaceId, workItemId, request, user.id(),
+                workItemService.nextBoardVersion(projectId));
+
+        broadcaster.send(projectId, WorkItemDeltaSocketEvent.of(result));
+
+        return ResponseEntity.ok(result.item());
+    }
+
+    /**
+     * Drag-and-drop: writes status and position only.
+     * Path: PATCH /api/projects/{workspaceId}/{projectId}/work-items/{workItemId}/move
+     */
+    @PatchMapping("/{workItemId}/move")
+    @Transactional
+    public ResponseEntity<WorkItemMoveResult> moveWorkItem(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            @PathVariable UUID workItemId,
+            @RequestBody MoveWorkItemRequest request,
+            CurrentUser user) {
+
+        if (!workspaceAccess.canEdit(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
         }
 
-        WorkItem savedWorkItem = workItemRepository.save(workItem);
-        User currentAssignee = savedWorkItem.getAssignee();
-
-        if (currentAssignee != null) {
-            boolean isSelfUpdate = currentAssignee.getId().equals(user.getId());
-
-            if (!isSelfUpdate) {
-                String title = null;
-                String subtitle = null;
-
-                boolean isNewAssignment = oldAssigneeId == null || !oldAssigneeId.equals(currentAssignee.getId());
-
-                if (isNewAssignment) {
-                    title = "New Task Assigned";
-                    subtitle = "You have been assigned to: " + savedWorkItem.getTitle();
-                } else {
-                    title = "Task Updated";
-                    subtitle = "Updates were made to: " + savedWorkItem.getTitle();
-                }
-                Notification notification = Notification.builder()
-                        .recipient(currentAssignee)
-                        .type(NotificationType.UPDATE)
-                        .workspace(savedWorkItem.getProject().getWorkspace())
-                        .workItem(savedWorkItem)
-                        .title(title)
-                        .subtitle(subtitle)
-                        .build();
-
-                notificationRepository.save(notification);
-            }
+        if (projectRepository.findBoardVersion(projectId, workspaceId).isEmpty()) {
+            return ResponseEntity.status(400).build();
         }
 
-        broadcastChange(projectId, new WorkItemSocketEvent(EventType.UPDATED, savedWorkItem, null));
+        WorkItemMoveResult result = workItemService.move(projectId, workItemId, request, user.id(),
+                workItemService.nextBoardVersion(projectId));
 
-        return ResponseEntity.ok(savedWorkItem);
+        broadcaster.send(projectId, WorkItemDeltaSocketEvent.of(result));
+
+        return ResponseEntity.ok(result);
     }
 
     @DeleteMapping("/{workItemId}")
+    @Transactional
     public ResponseEntity<Void> deleteWorkItem(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
             @PathVariable UUID workItemId,
-            Authentication auth) {
-
-        User user = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Membership membership = membershipRepository.findByUserIdAndWorkspaceId(user.getId(), workspaceId)
-                .orElse(null);
+            CurrentUser user) {
 
-        if (membership == null || "VIEWER".equalsIgnoreCase(membership.getRole())) {
+        if (!workspaceAccess.canEdit(user, workspaceId)) {
             return ResponseEntity.status(403).build();
         }
 
@@ -266,13 +389,54 @@ public class WorkItemController {
             return ResponseEntity.status(400).build();
         }
 
-        workItemRepository.delete(workItem);
+        workItemService.delete(workItem, user.id(), workItemService.nextBoardVersion(projectId));
 
-        broadcastChange(projectId, new WorkItemSocketEvent(EventType.DELETED, null, workItemId.toString()));
+        broadcaster.send(projectId, new WorkItemSocketEvent(EventType.DELETED, null, workItemId.toString()));
 
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Applies many create/update/move/delete operations in one transaction with one
+     * board version and one broadcast. All-or-nothing; an item may appear only once.
+     * Path: POST /api/projects/{workspaceId}/{projectId}/work-items/batch
+     */
+    @PostMapping("/batch")
+    @Transactional
+    public ResponseEntity<WorkItemBatchResult> applyBatch(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            @RequestBody WorkItemBatchRequest request,
+            CurrentUser user) {
+
+        if (!workspaceAccess.canEdit(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+
+        if (!project.getWorkspace().getId().equals(workspaceId)) {
+            return ResponseEntity.status(400).build();
+        }
+
+        List<WorkItemOperation> operations = request.operations();
+        if (operations == null || operations.isEmpty() || operations.size() > maxBatchOperations) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        WorkItemBatchResult result = workItemService.applyBatch(project, operations, user.id());
+
+        broadcaster.send(projectId, new WorkItemBatchSocketEvent(result.items(), result.deletedIds()));
+        return ResponseEntity.ok(result);
+    }
+
+    // Stale version on PATCH, move or batch; the transaction has already rolled back
+    @ExceptionHandler(WorkItemConflictException.class)
+    public ResponseEntity<WorkItemView> handleConflict(WorkItemConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getCurrent());
+    }
+
     // --- Helpers ---
 
     private boolean validateProjectInWorkspace(UUID projectId, UUID workspaceId) {
@@ -0,0 +1,131 @@
+package com.strideboard.workItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.strideboard.auth.CurrentUser;
+import com.strideboard.data.workitem.WorkItemRepository;
+import com.strideboard.data.workitem.WorkItemSearchCursor;
+import com.strideboard.data.workitem.WorkItemSearchHit;
+import com.strideboard.data.workitem.WorkItemSearchPage;
+import com.strideboard.data.workitem.WorkItemView;
+import com.strideboard.workspace.WorkspaceAccessService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/workspaces/{workspaceId}/work-items")
+@RequiredArgsConstructor
+public class WorkItemSearchController {
+
+    // Bounds the tsquery we build; longer input adds nothing but planning cost
+    private static final int MAX_TERMS = 8;
+    // "a:*" matches nearly every row; shorter words are dropped from the query
+    static final int MIN_PREFIX_LENGTH = 2;
+
+    private final WorkItemRepository workItemRepository;
+    private final WorkspaceAccessService workspaceAccess;
+    private final WorkItemSearchSchema searchSchema;
+
+    @Value("${app.work-items.search.page-size.default:20}")
+    private int defaultPageSize;
+
+    @Value("${app.work-items.search.page-size.max:100}")
+    private int maxPageSize;
+
+    @Value("${app.work-items.search.max-candidates:1000}")
+    private int maxCandidates;
+
+    /**
+     * Ranked search over title and description of every item in the workspace.
+     * Each word of two or more characters matches as a prefix, all words must match.
+     * Only the newest app.work-items.search.max-candidates matches are ranked.
+     * Path: GET /api/workspaces/{workspaceId}/work-items/search?q=&cursor=&size=
+     */
+    @GetMapping("/search")
+    @Transactional(readOnly = true)
+    public ResponseEntity<WorkItemSearchPage> search(
+            @PathVariable UUID workspaceId,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            CurrentUser user) {
+
+        if (!workspaceAccess.isMember(user, workspaceId)) {
+            return ResponseEntity.status(403).build();
+        }
+        if (!searchSchema.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        WorkItemSearchCursor after;
+        try {
+            after = cursor != null ? WorkItemSearchCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String query = toPrefixQuery(q);
+        if (query.isEmpty()) {
+            return ResponseEntity.ok(new WorkItemSearchPage(List.of(), null));
+        }
+
+        int pageSize = Math.min(size != null && size > 0 ? size : defaultPageSize, maxPageSize);
+
+        // Rank and page on ids alone, then load the views for just this page
+        List<WorkItemSearchHit> hits = after == null
+                ? workItemRepository.searchIds(workspaceId, query, maxCandidates, pageSize + 1)
+                : workItemRepository.searchIdsAfter(workspaceId, query, maxCandidates, after.rank(), after.id(),
+                        pageSize + 1);
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            hits = hits.subList(0, pageSize);
+            nextCursor = WorkItemSearchCursor.of(hits.get(pageSize - 1)).encode();
+        }
+        if (hits.isEmpty()) {
+            return ResponseEntity.ok(new WorkItemSearchPage(List.of(), null));
+        }
+        List<UUID> ids = hits.stream().map(WorkItemSearchHit::getId).toList();
+
+        Map<UUID, WorkItemView> views = workItemRepository.findViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(WorkItemView::id, Function.identity()));
+        List<WorkItemView> items = ids.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return ResponseEntity.ok(new WorkItemSearchPage(items, nextCursor));
+    }
+
+    // --- Helpers ---
+
+    // "Fix a login bu" -> "fix:* & login:* & bu:*"; only letters and digits reach to_tsquery
+    static String toPrefixQuery(String input) {
+        if (input == null) {
+            return "";
+        }
+        List<String> terms = new ArrayList<>();
+        for (String word : input.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= MIN_PREFIX_LENGTH && terms.size() < MAX_TERMS) {
+                terms.add(word + ":*");
+            }
+        }
+        return String.join(" & ", terms);
+    }
+}
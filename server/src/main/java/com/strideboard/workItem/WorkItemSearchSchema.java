@@ -0,0 +1,34 @@
+package com.strideboard.workItem;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Work item search needs the search_vector column and the (workspace_id, search_vector)
+ * GIN index from db/work-item-search.sql. Hibernate's ddl-auto cannot express either,
+ * and building them rewrites the table, so they ship as a one-off migration run by hand
+ * instead of DDL on every node at startup. search_vector is a stored generated column:
+ * Postgres keeps it current on every insert and update, with title weighted above
+ * description. Until the index exists and is valid, search answers 503.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkItemSearchSchema {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Only ever goes from false to true, so the catalog is queried only until the migration has run
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        if (!ready) {
+            ready = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid"
+                            + " WHERE c.relname = 'idx_work_items_workspace_search' AND i.indisvalid)",
+                    Boolean.class));
+        }
+        return ready;
+    }
+}
@@ -0,0 +1,459 @@
+package com.strideboard.workItem;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.strideboard.data.notification.Notification;
+import com.strideboard.data.notification.NotificationType;
+import com.strideboard.data.project.Project;
+import com.strideboard.data.project.ProjectRepository;
+import com.strideboard.data.user.User;
+import com.strideboard.data.user.UserRepository;
+import com.strideboard.data.workspace.WorkspaceRepository;
+import com.strideboard.data.workitem.CreateWorkItemRequest;
+import com.strideboard.data.workitem.MoveWorkItemRequest;
+import com.strideboard.data.workitem.UpdateWorkItemRequest;
+import com.strideboard.data.workitem.WorkItem;
+import com.strideboard.data.workitem.WorkItemActivity;
+import com.strideboard.data.workitem.WorkItemActivity.Action;
+import com.strideboard.data.workitem.WorkItemBatchResult;
+import com.strideboard.data.workitem.WorkItemMoveResult;
+import com.strideboard.data.workitem.WorkItemOperation;
+import com.strideboard.data.workitem.WorkItemOperation.Kind;
+import com.strideboard.data.workitem.WorkItemPriority;
+import com.strideboard.data.workitem.WorkItemRepository;
+import com.strideboard.data.workitem.WorkItemState;
+import com.strideboard.data.workitem.WorkItemStatus;
+import com.strideboard.data.workitem.WorkItemTombstone;
+import com.strideboard.data.workitem.WorkItemTombstoneRepository;
+import com.strideboard.data.workitem.WorkItemType;
+import com.strideboard.data.workitem.WorkItemUpdateResult;
+import com.strideboard.data.workitem.WorkItemView;
+import com.strideboard.notification.NotificationService;
+import com.strideboard.project.ProjectStatsDelta;
+import com.strideboard.project.ProjectStatsService;
+import com.strideboard.workspace.WorkspaceAccessService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Work item writes shared by the single-item endpoints and the batch endpoint.
+ * Callers hold a transaction and take one board version per request.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkItemService {
+
+    private final WorkItemRepository workItemRepository;
+    private final WorkItemTombstoneRepository tombstoneRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final NotificationService notificationService;
+    private final WorkspaceAccessService workspaceAccess;
+    private final PositionAllocator positionAllocator;
+    private final ProjectStatsService statsService;
+    private final WorkItemActivityLog activityLog;
+
+    // Locks the project row until commit, so versions are handed out in commit order
+    public long nextBoardVersion(UUID projectId) {
+        projectRepository.incrementBoardVersion(projectId);
+        return projectRepository.getBoardVersion(projectId);
+    }
+
+    // Auto-position: after the current last item. Call after nextBoardVersion.
+    public double nextPosition(UUID projectId) {
+        return positionAllocator.allocate(projectId, 1);
+    }
+
+    public WorkItem create(Project project, CreateWorkItemRequest request, UUID actorId, double position,
+            long version) {
+        ProjectStatsDelta stats = new ProjectStatsDelta();
+        List<WorkItemActivity> activity = new ArrayList<>();
+        WorkItem savedWorkItem = applyCreate(project, request, actorId, position, version, stats, activity);
+        statsService.apply(project.getId(), stats);
+        activityLog.record(activity);
+        return savedWorkItem;
+    }
+
+    /**
+     * PATCH as one UPDATE of the supplied columns; the entity is never loaded. Call after
+     * nextBoardVersion: the project row lock keeps the state read and the write consistent.
+     */
+    public WorkItemUpdateResult update(UUID projectId, UUID workspaceId, UUID workItemId,
+            UpdateWorkItemRequest request, UUID actorId, long version) {
+        WorkItemState before = currentState(workItemId, projectId, request.version());
+        if (request.description() != null) {
+            before = before.withDescription(workItemRepository.findDescriptionById(workItemId).orElse(null));
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        String title = null;
+        if (request.title() != null && !request.title().isBlank()) {
+            title = request.title();
+            values.put("title", title);
+        }
+        if (request.description() != null)
+            values.put("description", request.description());
+        if (request.status() != null)
+            values.put("status", request.status());
+        if (request.priority() != null)
+            values.put("priority", request.priority());
+        if (request.type() != null)
+            values.put("type", request.type());
+        if (request.position() != null)
+            values.put("position", request.position());
+
+        UUID assigneeId = before.assigneeId();
+        if (Boolean.TRUE.equals(request.removeAssignee())) {
+            assigneeId = null;
+            values.put("assignee", null);
+        } else if (request.assigneeId() != null) {
+            assigneeId = request.assigneeId();
+            values.put("assignee", resolveAssignee(assigneeId, workspaceId));
+        }
+
+        WorkItemState after = before.with(title, request.description(), request.status(), request.priority(),
+                request.type(), assigneeId);
+        writeColumns(before, projectId, values, version);
+
+        statsService.apply(projectId, new ProjectStatsDelta().replace(before, after));
+        activityLog.record(changes(projectId, actorId, Action.UPDATED, before, after));
+        if (request.position() != null) {
+            positionAllocator.positionWritten(projectId, request.position());
+        }
+
+        if (assigneeId != null && !assigneeId.equals(actorId)) {
+            boolean isNewAssignment = !assigneeId.equals(before.assigneeId());
+            if (isNewAssignment) {
+                notifyAssignee(workItemId, workspaceId, assigneeId, "New Task Assigned",
+                        "You have been assigned to: " + after.title());
+            } else {
+                notifyAssignee(workItemId, workspaceId, assigneeId, "Task Updated",
+                        "Updates were made to: " + after.title());
+            }
+        }
+        return new WorkItemUpdateResult(view(workItemId), before.version(), values.keySet());
+    }
+
+    // Drag-and-drop: status and position only, never the description, no notifications.
+    // The result is built from what the UPDATE wrote; the row is not read back
+    public WorkItemMoveResult move(UUID projectId, UUID workItemId, MoveWorkItemRequest request, UUID actorId,
+            long version) {
+        if (request.status() == null && request.position() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Move needs a status or a position");
+        }
+        WorkItemState before = currentState(workItemId, projectId, request.version());
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (request.status() != null)
+            values.put("status", request.status());
+        if (request.position() != null)
+            values.put("position", request.position());
+
+        LocalDateTime updatedAt = writeColumns(before, projectId, values, version);
+
+        WorkItemState after = before.with(null, null, request.status(), null, null, before.assigneeId());
+        statsService.apply(projectId, new ProjectStatsDelta().replace(before, after));
+        activityLog.record(changes(projectId, actorId, Action.MOVED, before, after));
+        if (request.position() != null) {
+            positionAllocator.positionWritten(projectId, request.position());
+        }
+        return new WorkItemMoveResult(workItemId, after.version(), version, after.status(),
+                request.position() != null ? request.position() : before.position(), updatedAt);
+    }
+
+    public void delete(WorkItem workItem, UUID actorId, long version) {
+        UUID projectId = workItem.getProject().getId();
+        statsService.apply(projectId, new ProjectStatsDelta().remove(workItem));
+        activityLog.record(List.of(WorkItemActivity.of(workItem.getId(), projectId, actorId, Action.DELETED)));
+        workItemRepository.delete(workItem);
+        tombstoneRepository.save(tombstone(workItem.getId(), projectId, version));
+    }
+
+    /**
+     * Applies all operations under one board version. Any failure throws and rolls
+     * back the whole batch; each work item may appear at most once.
+     */
+    public WorkItemBatchResult applyBatch(Project project, List<WorkItemOperation> operations, UUID actorId) {
+        UUID projectId = project.getId();
+
+        Set<UUID> ids = new HashSet<>();
+        int autoPositioned = 0;
+        for (WorkItemOperation operation : operations) {
+            if (operation == null || operation.op() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Operation type is required");
+            }
+            if (operation.op() == Kind.CREATE) {
+                if (operation.position() == null) {
+                    autoPositioned++;
+                }
+                continue;
+            }
+            if (operation.id() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, operation.op() + " needs a work item id");
+            }
+            if (!ids.add(operation.id())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Work item " + operation.id() + " appears more than once");
+            }
+        }
+
+        // Lock before reading, so the entities below cannot go stale before they are flushed
+        long version = nextBoardVersion(projectId);
+
+        // One query for every referenced item; also proves they belong to this project
+        Map<UUID, WorkItem> existing = ids.isEmpty() ? Map.of()
+                : workItemRepository.findByProject_IdAndIdIn(projectId, ids).stream()
+                        .collect(Collectors.toMap(WorkItem::getId, Function.identity()));
+        if (existing.size() != ids.size()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Work item not found in project");
+        }
+        for (WorkItemOperation operation : operations) {
+            if (operation.op() == Kind.CREATE || operation.version() == null) {
+                continue;
+            }
+            WorkItem current = existing.get(operation.id());
+            if (operation.version() != current.getVersion()) {
+                throw new WorkItemConflictException(WorkItemView.from(current));
+            }
+        }
+
+        double nextSlot = autoPositioned > 0 ? positionAllocator.allocate(projectId, autoPositioned) : 0;
+
+        List<WorkItem> items = new ArrayList<>();
+        List<UUID> deletedIds = new ArrayList<>();
+        ProjectStatsDelta stats = new ProjectStatsDelta();
+        List<WorkItemActivity> activity = new ArrayList<>();
+        // Client-chosen positions are reported once at the end; a native query per item would flush per item
+        Double highestWritten = null;
+        for (WorkItemOperation operation : operations) {
+            switch (operation.op()) {
+                case CREATE -> {
+                    double position = operation.position() != null ? operation.position() : nextSlot;
+                    if (operation.position() == null) {
+                        nextSlot += PositionAllocator.STEP;
+                    }
+                    items.add(applyCreate(project, operation.toCreateRequest(), actorId, position, version, stats,
+                            activity));
+                }
+                case UPDATE -> items.add(applyUpdate(existing.get(operation.id()), operation.toUpdateRequest(),
+                        actorId, version, stats, activity));
+                case MOVE -> items.add(applyMove(existing.get(operation.id()), operation.status(),
+                        operation.position(), actorId, version, stats, activity));
+                case DELETE -> {
+                    stats.remove(existing.get(operation.id()));
+                    activity.add(WorkItemActivity.of(operation.id(), projectId, actorId, Action.DELETED));
+                    deletedIds.add(operation.id());
+                }
+            }
+            if (operation.op() != Kind.DELETE && operation.position() != null) {
+                highestWritten = highestWritten == null ? operation.position()
+                        : Math.max(highestWritten, operation.position());
+            }
+        }
+
+        statsService.apply(projectId, stats);
+        activityLog.record(activity);
+        if (highestWritten != null) {
+            positionAllocator.positionWritten(projectId, highestWritten);
+        }
+        if (!deletedIds.isEmpty()) {
+            workItemRepository.deleteAllByIdInBatch(deletedIds);
+            tombstoneRepository.saveAll(deletedIds.stream()
+                    .map(id -> tombstone(id, projectId, version))
+                    .toList());
+        }
+
+        // Flush so updatedAt is generated before the views are taken
+        workItemRepository.flush();
+        return new WorkItemBatchResult(version, items.stream().map(WorkItemView::from).toList(), deletedIds);
+    }
+
+    // --- Helpers ---
+
+    private WorkItem applyCreate(Project project, CreateWorkItemRequest request, UUID actorId, double position,
+            long version, ProjectStatsDelta stats, List<WorkItemActivity> activity) {
+
+        if (request.title() == null || request.title().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title is required");
+        }
+
+        User assignee = request.assigneeId() != null
+                ? resolveAssignee(request.assigneeId(), project.getWorkspace().getId())
+                : null;
+
+        WorkItem workItem = WorkItem.builder()
+                .title(request.title())
+                .description(request.description())
+                .status(request.status() != null ? request.status() : WorkItemStatus.BACKLOG)
+                .priority(request.priority() != null ? request.priority() : WorkItemPriority.MEDIUM)
+                .type(request.type() != null ? request.type() : WorkItemType.TASK)
+                .position(position)
+                .boardVersion(version)
+                .project(project)
+                .workspaceId(project.getWorkspace().getId())
+                .creator(userRepository.getReferenceById(actorId))
+                .assignee(assignee)
+                .build();
+
+        WorkItem savedWorkItem = workItemRepository.save(workItem);
+        stats.add(savedWorkItem);
+        activity.add(WorkItemActivity.of(savedWorkItem.getId(), project.getId(), actorId, Action.CREATED));
+
+        if (assignee != null && !assignee.getId().equals(actorId)) {
+            notifyAssignee(savedWorkItem.getId(), project.getWorkspace().getId(), assignee.getId(),
+                    "New Task Assigned",
+                    "You have been assigned to: " + savedWorkItem.getTitle());
+        }
+        return savedWorkItem;
+    }
+
+    private WorkItem applyUpdate(WorkItem workItem, UpdateWorkItemRequest request, UUID actorId, long version,
+            ProjectStatsDelta stats, List<WorkItemActivity> activity) {
+        WorkItemState before = WorkItemState.of(workItem);
+        UUID oldAssigneeId = before.assigneeId();
+        stats.remove(workItem);
+
+        // Apply Updates
+        if (request.title() != null && !request.title().isBlank())
+            workItem.setTitle(request.title());
+        if (request.description() != null)
+            workItem.setDescription(request.description());
+        if (request.status() != null)
+            workItem.setStatus(request.status());
+        if (request.priority() != null)
+            workItem.setPriority(request.priority());
+        if (request.type() != null)
+            workItem.setType(request.type());
+        if (request.position() != null)
+            workItem.setPosition(request.position());
+
+        // Update Assignee
+        if (Boolean.TRUE.equals(request.removeAssignee())) {
+            workItem.setAssignee(null);
+        } else if (request.assigneeId() != null) {
+            workItem.setAssignee(resolveAssignee(request.assigneeId(), workItem.getProject().getWorkspace().getId()));
+        }
+
+        workItem.setBoardVersion(version);
+        WorkItem savedWorkItem = workItemRepository.save(workItem);
+        stats.add(savedWorkItem);
+        activity.addAll(changes(workItem.getProject().getId(), actorId, Action.UPDATED, before,
+                WorkItemState.of(savedWorkItem)));
+
+        User currentAssignee = savedWorkItem.getAssignee();
+        if (currentAssignee != null && !currentAssignee.getId().equals(actorId)) {
+            boolean isNewAssignment = oldAssigneeId == null || !oldAssigneeId.equals(currentAssignee.getId());
+            UUID workspaceId = workItem.getProject().getWorkspace().getId();
+            if (isNewAssignment) {
+                notifyAssignee(savedWorkItem.getId(), workspaceId, currentAssignee.getId(), "New Task Assigned",
+                        "You have been assigned to: " + savedWorkItem.getTitle());
+            } else {
+                notifyAssignee(savedWorkItem.getId(), workspaceId, currentAssignee.getId(), "Task Updated",
+                        "Updates were made to: " + savedWorkItem.getTitle());
+            }
+        }
+        return savedWorkItem;
+    }
+
+    private WorkItem applyMove(WorkItem workItem, WorkItemStatus status, Double position, UUID actorId,
+            long version, ProjectStatsDelta stats, List<WorkItemActivity> activity) {
+        if (status == null && position == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Move needs a status or a position");
+        }
+        WorkItemState before = WorkItemState.of(workItem);
+        stats.remove(workItem);
+        if (status != null)
+            workItem.setStatus(status);
+        if (position != null)
+            workItem.setPosition(position);
+
+        workItem.setBoardVersion(version);
+        WorkItem savedWorkItem = workItemRepository.save(workItem);
+        stats.add(savedWorkItem);
+        activity.addAll(changes(workItem.getProject().getId(), actorId, Action.MOVED, before,
+                WorkItemState.of(savedWorkItem)));
+        return savedWorkItem;
+    }
+
+    private User resolveAssignee(UUID assigneeId, UUID workspaceId) {
+        if (!workspaceAccess.isMember(assigneeId, workspaceId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Assignee is not a workspace member");
+        }
+        return userRepository.getReferenceById(assigneeId);
+    }
+
+    private void notifyAssignee(UUID workItemId, UUID workspaceId, UUID assigneeId, String title, String subtitle) {
+        Notification notification = Notification.builder()
+                .recipient(userRepository.getReferenceById(assigneeId))
+                .type(NotificationType.UPDATE)
+                .workspace(workspaceRepository.getReferenceById(workspaceId))
+                .workItem(workItemRepository.getReferenceById(workItemId))
+                .title(title)
+                .subtitle(subtitle)
+                .build();
+        notificationService.send(notification);
+    }
+
+    // Also proves the item belongs to the project; rejects a stale expectedVersion with 409
+    private WorkItemState currentState(UUID workItemId, UUID projectId, Long expectedVersion) {
+        WorkItemState state = workItemRepository.findState(workItemId, projectId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Work item not found"));
+        if (expectedVersion != null && expectedVersion != state.version()) {
+            throw new WorkItemConflictException(view(workItemId));
+        }
+        return state;
+    }
+
+    // Returns the updatedAt it stamped
+    private LocalDateTime writeColumns(WorkItemState before, UUID projectId, Map<String, Object> values,
+            long version) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        // Fence on the version just read; under the project lock a miss means a write outside that lock
+        if (workItemRepository.updateColumns(before.id(), projectId, before.version(), values, version,
+                updatedAt) == 0) {
+            throw new WorkItemConflictException(view(before.id()));
+        }
+        return updatedAt;
+    }
+
+    // History entries for the fields that differ; position-only reorders are not recorded
+    private static List<WorkItemActivity> changes(UUID projectId, UUID actorId, Action action, WorkItemState before,
+            WorkItemState after) {
+        UUID id = before.id();
+        List<WorkItemActivity> entries = new ArrayList<>();
+        entries.add(WorkItemActivity.change(id, projectId, actorId, action, "title", before.title(), after.title()));
+        entries.add(WorkItemActivity.change(id, projectId, actorId, action, "description", before.description(),
+                after.description()));
+        entries.add(WorkItemActivity.change(id, projectId, actorId, action, "status", before.status(),
+                after.status()));
+        entries.add(WorkItemActivity.change(id, projectId, actorId, action, "priority", before.priority(),
+                after.priority()));
+        entries.add(WorkItemActivity.change(id, projectId, actorId, action, "type", before.type(), after.type()));
+        entries.add(WorkItemActivity.change(id, projectId, actorId, action, "assignee", before.assigneeId(),
+                after.assigneeId()));
+        return entries;
+    }
+
+    private WorkItemView view(UUID workItemId) {
+        return workItemRepository.findViewById(workItemId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Work item not found"));
+    }
+
+    private static WorkItemTombstone tombstone(UUID workItemId, UUID projectId, long version) {
+        return new WorkItemTombstone(workItemId, projectId, version, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,35 @@
+package com.strideboard.workItem;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.strideboard.data.workitem.WorkItemTombstoneRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Drops tombstones older than the retention window. The project's tombstone floor
+ * is raised in the same transaction so delta sync never silently misses a delete.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkItemTombstonePruner {
+
+    private final WorkItemTombstoneRepository tombstoneRepository;
+
+    @Value("${app.work-items.tombstones.retention:7d}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${app.work-items.tombstones.prune-interval:1h}")
+    @Transactional
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        tombstoneRepository.raiseTombstoneFloors(cutoff);
+        tombstoneRepository.deleteOlderThan(cutoff);
+    }
+}
@@ -0,0 +1,154 @@
+package com.strideboard.workspace;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.strideboard.auth.CurrentUser;
+import com.strideboard.config.AfterCommit;
+import com.strideboard.config.CacheInvalidations;
+import com.strideboard.data.user.UserRepository;
+import com.strideboard.data.workspace.Membership;
+import com.strideboard.data.workspace.MembershipRepository;
+
+/**
+ * Answers "what role does this user have in this workspace".
+ *
+ * Tokens carry the user's roles plus the membership epoch they were issued at;
+ * while that epoch is still current the claims are trusted and the check is
+ * pure in-memory work. Otherwise the (userId, workspaceId) -> role cache is
+ * consulted. Every code path that creates, changes or removes a Membership
+ * must call {@link #membershipChanged} or {@link #workspaceRemoved}; both also
+ * evict on the other nodes through CacheInvalidations.
+ */
+@Service
+public class WorkspaceAccessService {
+
+    // Non-members are cached too, so a stranger probing a workspace costs one query
+    private static final String NO_ROLE = "";
+    // Keys: "userId,workspaceId" and "workspaceId,memberId,memberId,..."
+    private static final String MEMBERSHIP_CACHE = "membership";
+    private static final String WORKSPACE_CACHE = "workspace";
+
+    private final MembershipRepository membershipRepository;
+    private final UserRepository userRepository;
+    private final CacheInvalidations invalidations;
+    private final Cache<MembershipKey, String> roles;
+    private final Cache<UUID, Long> epochs;
+
+    public WorkspaceAccessService(MembershipRepository membershipRepository, UserRepository userRepository,
+            CacheInvalidations invalidations,
+            @Value("${app.cache.membership.max-size:50000}") long maxSize,
+            @Value("${app.cache.membership.ttl:10m}") Duration ttl,
+            @Value("${app.cache.membership.epoch-ttl:1m}") Duration epochTtl) {
+        this.membershipRepository = membershipRepository;
+        this.userRepository = userRepository;
+        this.roles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(epochTtl)
+                .build();
+        this.invalidations = invalidations;
+        invalidations.register(MEMBERSHIP_CACHE, key -> {
+            List<UUID> ids = parseIds(key);
+            evictMembership(ids.get(0), ids.get(1));
+        }, this::evictAll);
+        invalidations.register(WORKSPACE_CACHE, key -> {
+            List<UUID> ids = parseIds(key);
+            evictWorkspace(ids.get(0), ids.subList(1, ids.size()));
+        }, this::evictAll);
+    }
+
+    public Optional<String> findRole(CurrentUser user, UUID workspaceId) {
+        if (user.workspaceRoles() != null && user.membershipEpoch() != null
+                && user.membershipEpoch() == currentEpoch(user.id())) {
+            return Optional.ofNullable(user.workspaceRoles().get(workspaceId));
+        }
+        return findRole(user.id(), workspaceId);
+    }
+
+    public Optional<String> findRole(UUID userId, UUID workspaceId) {
+        String role = roles.get(new MembershipKey(userId, workspaceId),
+                key -> membershipRepository.findByUserIdAndWorkspaceId(key.userId(), key.workspaceId())
+                        .map(Membership::getRole)
+                        .map(String::toUpperCase)
+                        .orElse(NO_ROLE));
+        return role.isEmpty() ? Optional.empty() : Optional.of(role);
+    }
+
+    public boolean isMember(CurrentUser user, UUID workspaceId) {
+        return findRole(user, workspaceId).isPresent();
+    }
+
+    public boolean isMember(UUID userId, UUID workspaceId) {
+        return findRole(userId, workspaceId).isPresent();
+    }
+
+    // ADMIN or MEMBER (not VIEWER)
+    public boolean canEdit(CurrentUser user, UUID workspaceId) {
+        return findRole(user, workspaceId).filter(role -> !"VIEWER".equals(role)).isPresent();
+    }
+
+    public boolean isAdmin(CurrentUser user, UUID workspaceId) {
+        return findRole(user, workspaceId).filter("ADMIN"::equals).isPresent();
+    }
+
+    public long currentEpoch(UUID userId) {
+        return epochs.get(userId, id -> userRepository.findMembershipEpochById(id).orElse(0L));
+    }
+
+    // Bumping the epoch invalidates the role claims in every token already issued to the user
+    public void membershipChanged(UUID userId, UUID workspaceId) {
+        userRepository.incrementMembershipEpoch(List.of(userId));
+        AfterCommit.run(() -> {
+            evictMembership(userId, workspaceId);
+            invalidations.publish(MEMBERSHIP_CACHE, userId + "," + workspaceId);
+        });
+    }
+
+    // Must run before the memberships are deleted
+    public void workspaceRemoved(UUID workspaceId) {
+        List<UUID> memberIds = membershipRepository.findUserIdsByWorkspaceId(workspaceId);
+        if (!memberIds.isEmpty()) {
+            userRepository.incrementMembershipEpoch(memberIds);
+        }
+        AfterCommit.run(() -> {
+            evictWorkspace(workspaceId, memberIds);
+            StringBuilder key = new StringBuilder(workspaceId.toString());
+            memberIds.forEach(id -> key.append(',').append(id));
+            invalidations.publish(WORKSPACE_CACHE, key.toString());
+        });
+    }
+
+    private void evictMembership(UUID userId, UUID workspaceId) {
+        roles.invalidate(new MembershipKey(userId, workspaceId));
+        epochs.invalidate(userId);
+    }
+
+    private void evictWorkspace(UUID workspaceId, List<UUID> memberIds) {
+        roles.asMap().keySet().removeIf(key -> key.workspaceId().equals(workspaceId));
+        epochs.invalidateAll(memberIds);
+    }
+
+    private void evictAll() {
+        roles.invalidateAll();
+        epochs.invalidateAll();
+    }
+
+    private static List<UUID> parseIds(String key) {
+        return Arrays.stream(key.split(",")).map(UUID::fromString).toList();
+    }
+
+    private record MembershipKey(UUID userId, UUID workspaceId) {
+    }
+}
@@ -9,7 +9,6 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.strideboard.auth.CurrentUser;
 import com.strideboard.data.notification.Notification;
 import com.strideboard.data.notification.NotificationRepository;
 import com.strideboard.data.notification.NotificationType;
@@ -32,6 +32,7 @@ import com.strideboard.data.workspace.Membership;
 import com.strideboard.data.workspace.MembershipRepository;
 import com.strideboard.data.workspace.Workspace;
 import com.strideboard.data.workspace.WorkspaceRepository;
+import com.strideboard.notification.NotificationService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,14 +44,13 @@ public class WorkspaceController {
         private final MembershipRepository membershipRepository;
         private final UserRepository userRepository;
         private final NotificationRepository notificationRepository;
+        private final WorkspaceAccessService workspaceAccess;
+        private final NotificationService notificationService;
 
         @GetMapping
         @Transactional(readOnly = true)
-        public ResponseEntity<List<Workspace>> getMyWorkspaces(Authentication auth) {
-                User user = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-
-                List<Workspace> workspaces = user.getMemberships().stream()
+        public ResponseEntity<List<Workspace>> getMyWorkspaces(CurrentUser user) {
+                List<Workspace> workspaces = membershipRepository.findByUserId(user.id()).stream()
                                 .map(Membership::getWorkspace)
                                 .collect(Collectors.toList());
 
@@ -58,11 +58,8 @@ public class WorkspaceController {
         }
 
         @GetMapping("/{workspaceId}")
-        public ResponseEntity<Workspace> getWorkspaceById(@PathVariable UUID workspaceId, Authentication auth) {
-                User user = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-
-                if (!membershipRepository.existsByUserIdAndWorkspaceId(user.getId(), workspaceId)) {
+        public ResponseEntity<Workspace> getWorkspaceById(@PathVariable UUID workspaceId, CurrentUser user) {
+                if (!workspaceAccess.isMember(user, workspaceId)) {
                         return ResponseEntity.status(403).build();
                 }
 
@@ -75,12 +72,9 @@ public class WorkspaceController {
         @Transactional(readOnly = true)
         public ResponseEntity<Map<String, String>> getWorkspaceOwner(
                         @PathVariable UUID workspaceId,
-                        Authentication auth) {
-
-                User user = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                        CurrentUser user) {
 
-                if (!membershipRepository.existsByUserIdAndWorkspaceId(user.getId(), workspaceId)) {
+                if (!workspaceAccess.isMember(user, workspaceId)) {
                         return ResponseEntity.status(403).build();
                 }
 
@@ -93,10 +87,7 @@ public class WorkspaceController {
         @PostMapping
         @Transactional
         public ResponseEntity<Workspace> createWorkspace(@RequestBody CreateWorkspaceRequest request,
-                        Authentication auth) {
-
-                User currentUser = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                        CurrentUser currentUser) {
 
                 Workspace workspace = new Workspace();
                 workspace.setName(request.getName());
@@ -107,17 +98,19 @@ public class WorkspaceController {
                         workspace.setSlug(request.getName().toLowerCase().replaceAll(" ", "-"));
                 }
 
-                workspace.setOwner(currentUser);
+                User owner = userRepository.getReferenceById(currentUser.id());
+                workspace.setOwner(owner);
 
                 Workspace savedWorkspace = workspaceRepository.save(workspace);
 
                 Membership ownerMembership = Membership.builder()
-                                .user(currentUser)
+                                .user(owner)
                                 .workspace(savedWorkspace)
                                 .role("ADMIN")
                                 .build();
 
                 membershipRepository.save(ownerMembership);
+                workspaceAccess.membershipChanged(currentUser.id(), savedWorkspace.getId());
 
                 // Handle initial invites
                 if (request.getMemberEmails() != null && !request.getMemberEmails().isEmpty()) {
@@ -128,9 +121,9 @@ public class WorkspaceController {
         }
 
         // Helper method for invites to keep code clean
-        private void inviteUsers(List<String> emails, Workspace workspace, User sender) {
+        private void inviteUsers(List<String> emails, Workspace workspace, CurrentUser sender) {
                 for (String email : emails) {
-                        if (email.equalsIgnoreCase(sender.getEmail()))
+                        if (email.equalsIgnoreCase(sender.email()))
                                 continue;
 
                         String trimmedEmail = email.trim().toLowerCase();
@@ -153,7 +146,7 @@ public class WorkspaceController {
                                                                 .subtitle("You have been invited to join "
                                                                                 + workspace.getName())
                                                                 .build();
-                                                notificationRepository.save(invite);
+                                                notificationService.send(invite);
                                         }
                                 }
                         });
@@ -162,14 +155,8 @@ public class WorkspaceController {
 
         @DeleteMapping("/{workspaceId}")
         @Transactional
-        public ResponseEntity<Void> deleteWorkspace(@PathVariable UUID workspaceId, Authentication auth) {
-                User user = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-
-                Membership membership = membershipRepository.findByUserIdAndWorkspaceId(user.getId(), workspaceId)
-                                .orElse(null);
-
-                if (membership == null || !"ADMIN".equalsIgnoreCase(membership.getRole())) {
+        public ResponseEntity<Void> deleteWorkspace(@PathVariable UUID workspaceId, CurrentUser user) {
+                if (!workspaceAccess.isAdmin(user, workspaceId)) {
                         return ResponseEntity.status(403).build();
                 }
 
@@ -177,6 +164,7 @@ public class WorkspaceController {
                 if (workspace == null)
                         return ResponseEntity.notFound().build();
 
+                workspaceAccess.workspaceRemoved(workspaceId);
                 workspaceRepository.delete(workspace);
                 return ResponseEntity.noContent().build();
         }
@@ -184,15 +172,9 @@ public class WorkspaceController {
         @PostMapping("/{workspaceId}/rename")
         @Transactional
         public ResponseEntity<?> updateWorkspaceName(@PathVariable UUID workspaceId,
-                        @RequestBody Map<String, String> request, Authentication auth) {
-
-                User user = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                        @RequestBody Map<String, String> request, CurrentUser user) {
 
-                Membership membership = membershipRepository.findByUserIdAndWorkspaceId(user.getId(), workspaceId)
-                                .orElse(null);
-
-                if (membership == null || !"ADMIN".equalsIgnoreCase(membership.getRole())) {
+                if (!workspaceAccess.isAdmin(user, workspaceId)) {
                         return ResponseEntity.status(403).body(Map.of("message", "Not authorized"));
                 }
 
@@ -215,11 +197,9 @@ public class WorkspaceController {
         @GetMapping("/{workspaceId}/members")
         @Transactional(readOnly = true)
         public ResponseEntity<List<Map<String, String>>> getWorkspaceMembers(@PathVariable UUID workspaceId,
-                        Authentication auth) {
-                User currentUser = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                        CurrentUser currentUser) {
 
-                if (!membershipRepository.existsByUserIdAndWorkspaceId(currentUser.getId(), workspaceId)) {
+                if (!workspaceAccess.isMember(currentUser, workspaceId)) {
                         return ResponseEntity.status(403).build();
                 }
 
@@ -241,16 +221,9 @@ public class WorkspaceController {
         @PostMapping("/{workspaceId}/members")
         @Transactional
         public ResponseEntity<?> addMembersToWorkspace(@PathVariable UUID workspaceId,
-                        @RequestBody AddMembersRequest request, Authentication auth) {
-
-                User currentUser = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                        @RequestBody AddMembersRequest request, CurrentUser currentUser) {
 
-                Membership currentMembership = membershipRepository
-                                .findByUserIdAndWorkspaceId(currentUser.getId(), workspaceId)
-                                .orElse(null);
-
-                if (currentMembership == null || !"ADMIN".equalsIgnoreCase(currentMembership.getRole())) {
+                if (!workspaceAccess.isAdmin(currentUser, workspaceId)) {
                         return ResponseEntity.status(403).body(Map.of("message", "Only admins can invite members"));
                 }
 
@@ -266,20 +239,13 @@ public class WorkspaceController {
         @DeleteMapping("/{workspaceId}/members/{memberId}")
         @Transactional
         public ResponseEntity<?> removeMemberFromWorkspace(@PathVariable UUID workspaceId,
-                        @PathVariable UUID memberId, Authentication auth) {
-
-                User currentUser = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                        @PathVariable UUID memberId, CurrentUser currentUser) {
 
-                Membership currentMembership = membershipRepository
-                                .findByUserIdAndWorkspaceId(currentUser.getId(), workspaceId)
-                                .orElse(null);
-
-                if (currentMembership == null || !"ADMIN".equalsIgnoreCase(currentMembership.getRole())) {
+                if (!workspaceAccess.isAdmin(currentUser, workspaceId)) {
                         return ResponseEntity.status(403).body(Map.of("message", "Only admins can remove members"));
                 }
 
-                if (currentUser.getId().equals(memberId)) {
+                if (currentUser.id().equals(memberId)) {
                         return ResponseEntity.badRequest().body(Map.of("message", "Cannot remove yourself"));
                 }
 
@@ -290,26 +256,20 @@ public class WorkspaceController {
                         return ResponseEntity.notFound().build();
 
                 membershipRepository.delete(membershipToRemove);
+                workspaceAccess.membershipChanged(memberId, workspaceId);
                 return ResponseEntity.noContent().build();
         }
 
         @PutMapping("/{workspaceId}/members/{memberId}/role")
         @Transactional
         public ResponseEntity<?> changeMemberRole(@PathVariable UUID workspaceId, @PathVariable UUID memberId,
-                        @RequestBody Map<String, String> request, Authentication auth) {
-
-                User currentUser = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                        @RequestBody Map<String, String> request, CurrentUser currentUser) {
 
-                if (currentUser.getId().equals(memberId)) {
+                if (currentUser.id().equals(memberId)) {
                         return ResponseEntity.badRequest().body(Map.of("message", "Cannot change your own role"));
                 }
 
-                Membership currentMembership = membershipRepository
-                                .findByUserIdAndWorkspaceId(currentUser.getId(), workspaceId)
-                                .orElse(null);
-
-                if (currentMembership == null || !"ADMIN".equalsIgnoreCase(currentMembership.getRole())) {
+                if (!workspaceAccess.isAdmin(currentUser, workspaceId)) {
                         return ResponseEntity.status(403).body(Map.of("message", "Only admins can change roles"));
                 }
 
@@ -332,6 +292,7 @@ public class WorkspaceController {
 
                 targetMembership.setRole(newRole.toUpperCase());
                 membershipRepository.save(targetMembership);
+                workspaceAccess.membershipChanged(memberId, workspaceId);
 
                 return ResponseEntity.ok(Map.of("message", "Role updated", "role", newRole.toUpperCase()));
         }
@@ -339,33 +300,27 @@ public class WorkspaceController {
         @GetMapping("/{workspaceId}/me")
         @Transactional(readOnly = true)
         public ResponseEntity<Map<String, String>> getCurrentUserInWorkspace(@PathVariable UUID workspaceId,
-                        Authentication auth) {
-                User user = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                        CurrentUser user) {
 
-                Membership membership = membershipRepository.findByUserIdAndWorkspaceId(user.getId(), workspaceId)
-                                .orElse(null);
+                String role = workspaceAccess.findRole(user, workspaceId).orElse(null);
 
-                if (membership == null)
+                if (role == null)
                         return ResponseEntity.status(403).build();
 
                 Map<String, String> result = new HashMap<>();
-                result.put("id", user.getId().toString());
-                result.put("email", user.getEmail());
-                result.put("name", user.getFullName());
-                result.put("role", formatRole(membership.getRole()));
+                result.put("id", user.id().toString());
+                result.put("email", user.email());
+                result.put("name", user.fullName());
+                result.put("role", formatRole(role));
 
                 return ResponseEntity.ok(result);
         }
 
         @DeleteMapping("/{workspaceId}/leave")
         @Transactional
-        public ResponseEntity<?> leaveWorkspace(@PathVariable UUID workspaceId, Authentication auth) {
-                User currentUser = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-
+        public ResponseEntity<?> leaveWorkspace(@PathVariable UUID workspaceId, CurrentUser currentUser) {
                 Membership membership = membershipRepository
-                                .findByUserIdAndWorkspaceId(currentUser.getId(), workspaceId)
+                                .findByUserIdAndWorkspaceId(currentUser.id(), workspaceId)
                                 .orElse(null);
 
                 if (membership == null) {
@@ -374,13 +329,14 @@ public class WorkspaceController {
                 
                 // owner cannot leave
                 Workspace workspace = membership.getWorkspace();
-                if (workspace.getOwner().getId().equals(currentUser.getId())) {
+                if (workspace.getOwner().getId().equals(currentUser.id())) {
                         return ResponseEntity.status(403)
                                         .body(Map.of("message",
                                                         "The Workspace Owner cannot leave. You must delete the workspace instead."));
                 }
 
                 membershipRepository.delete(membership);
+                workspaceAccess.membershipChanged(currentUser.id(), workspaceId);
 
                 return ResponseEntity.noContent().build();
         }
@@ -389,11 +345,11 @@ public class WorkspaceController {
 
         @GetMapping("/users/search")
         @Transactional(readOnly = true)
-        public ResponseEntity<List<Map<String, String>>> searchUsers(@RequestParam String query, Authentication auth) {
+        public ResponseEntity<List<Map<String, String>>> searchUsers(@RequestParam String query, CurrentUser user) {
                 if (query == null || query.trim().length() < 2)
                         return ResponseEntity.ok(Collections.emptyList());
 
-                String currentUserEmail = auth.getName();
+                String currentUserEmail = user.email();
                 return ResponseEntity.ok(userRepository.findByEmailContainingIgnoreCase(query).stream()
                                 .filter(u -> !u.getEmail().equalsIgnoreCase(currentUserEmail))
                                 .limit(10)
@@ -406,16 +362,13 @@ public class WorkspaceController {
         public ResponseEntity<List<Map<String, String>>> searchUsersNotInWorkspace(
                         @PathVariable UUID workspaceId,
                         @RequestParam String query,
-                        Authentication auth) {
+                        CurrentUser currentUser) {
 
                 if (query == null || query.trim().length() < 2) {
                         return ResponseEntity.ok(Collections.emptyList());
                 }
 
-                User currentUser = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-
-                if (!membershipRepository.existsByUserIdAndWorkspaceId(currentUser.getId(), workspaceId)) {
+                if (!workspaceAccess.isMember(currentUser, workspaceId)) {
                         return ResponseEntity.status(403).build();
                 }
 
@@ -0,0 +1,25 @@
+-- One-off migration behind work item search (WorkItemSearchSchema checks for its index).
+-- Run it once, after every node runs a version that writes work_items.workspace_id:
+--   psql "$DATABASE_URL" -f work-item-search.sql
+-- Not in a transaction: CREATE/DROP INDEX CONCURRENTLY refuse to run inside one.
+-- Adding the generated column rewrites work_items under an exclusive lock; pick a quiet moment.
+
+-- Rows written before workspace_id existed
+UPDATE work_items w SET workspace_id = p.workspace_id
+FROM projects p
+WHERE p.id = w.project_id AND w.workspace_id IS NULL;
+
+ALTER TABLE work_items ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+
+-- Lets one GIN index hold the uuid equality next to the tsvector
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- A failed concurrent build leaves an INVALID index behind; drop it and run this file again
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_work_items_workspace_search
+    ON work_items USING gin (workspace_id, search_vector);
+
+-- Replaced by the composite index above
+DROP INDEX CONCURRENTLY IF EXISTS idx_work_items_search;
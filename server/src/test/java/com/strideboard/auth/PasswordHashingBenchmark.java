@@ -0,0 +1,67 @@
+package com.strideboard.auth;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Logins/sec through PasswordHashingService at different bcrypt cost factors.
+ * Not a unit test; run manually:
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.strideboard.auth.PasswordHashingBenchmark
+ */
+public class PasswordHashingBenchmark {
+
+    private static final long RUN_MILLIS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        int clients = Runtime.getRuntime().availableProcessors() * 4;
+        ExecutorService clientThreads = Executors.newFixedThreadPool(clients);
+
+        System.out.printf("%-6s %-12s %-12s %-10s%n", "cost", "logins/sec", "rejected", "p50 ms");
+        for (int cost : new int[] { 4, 8, 10, 12, 14 }) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            PasswordHashingService hashing = new PasswordHashingService(encoder, new SimpleMeterRegistry(), 0, 64, 2);
+            String stored = encoder.encode("correct horse battery staple");
+
+            LongAdder ok = new LongAdder();
+            LongAdder rejected = new LongAdder();
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            long deadline = System.currentTimeMillis() + RUN_MILLIS;
+
+            // Each simulated client logs in back-to-back, like a servlet thread would
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    while (System.currentTimeMillis() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            hashing.matches("correct horse battery staple", stored).join();
+                            ok.increment();
+                            latencies.add((System.nanoTime() - start) / 1_000_000);
+                        } catch (RuntimeException e) {
+                            rejected.increment();
+                        }
+                    }
+                }, clientThreads));
+            }
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+            hashing.shutdown();
+
+            latencies.sort(null);
+            long p50 = latencies.isEmpty() ? 0 : latencies.get(latencies.size() / 2);
+            System.out.printf("%-6d %-12.1f %-12d %-10d%n",
+                    cost, ok.sum() * 1000.0 / RUN_MILLIS, rejected.sum(), p50);
+        }
+        clientThreads.shutdown();
+    }
+}
@@ -0,0 +1,73 @@
+package com.strideboard.data.id;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput and primary-key index size for random v4 keys versus UuidV7,
+ * against a real Postgres. Each scheme fills its own unlogged scratch table shaped
+ * like a narrow notifications row; the tables are dropped afterwards.
+ * Not a unit test; run manually:
+ *
+ * DB_URL=jdbc:postgresql://localhost:5432/strideboard DB_USER=... DB_PASSWORD=...
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.strideboard.data.id.UuidV7Benchmark
+ */
+public class UuidV7Benchmark {
+
+    private static final int ROWS = 2_000_000;
+    private static final int BATCH = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        try (Connection connection = DriverManager.getConnection(System.getenv("DB_URL"),
+                System.getenv("DB_USER"), System.getenv("DB_PASSWORD"))) {
+            connection.setAutoCommit(false);
+
+            System.out.printf("%-8s %-12s %-12s %-12s%n", "scheme", "rows/sec", "index MB", "table MB");
+            run(connection, "v4", UUID::randomUUID);
+            run(connection, "v7", UuidV7::next);
+        }
+    }
+
+    private static void run(Connection connection, String scheme, Supplier<UUID> ids) throws Exception {
+        String table = "uuid_bench_" + scheme;
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + table);
+            ddl.execute("CREATE UNLOGGED TABLE " + table
+                    + " (id uuid PRIMARY KEY, recipient_id uuid NOT NULL, title varchar(255), created_at timestamp)");
+        }
+        connection.commit();
+
+        UUID recipient = UUID.randomUUID();
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, recipient_id, title, created_at) VALUES (?, ?, ?, now())")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, recipient);
+                insert.setString(3, "New Task Assigned");
+                insert.addBatch();
+                if (i % BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        try (Statement stats = connection.createStatement();
+                ResultSet rs = stats.executeQuery("SELECT pg_relation_size('" + table + "_pkey'),"
+                        + " pg_relation_size('" + table + "')")) {
+            rs.next();
+            System.out.printf("%-8s %-12.0f %-12.1f %-12.1f%n", scheme, ROWS / seconds,
+                    rs.getLong(1) / 1048576.0, rs.getLong(2) / 1048576.0);
+            stats.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,100 @@
+package com.strideboard.data.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    private static final long NOW = 1_750_000_000_000L;
+
+    @Test
+    void setsVersionAndVariant() {
+        UUID id = UuidV7.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void idsFromOneJvmStrictlyIncrease() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    void stampsTheCurrentMillisecond() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        // Never behind the clock; ahead only by milliseconds borrowed after counter rollovers
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after + 1_000);
+    }
+
+    @Test
+    void countsUpWithinOneMillisecond() {
+        UuidV7.Sequence sequence = new UuidV7.Sequence();
+        long first = sequence.next(NOW);
+        long second = sequence.next(NOW);
+
+        assertThat(millis(first)).isEqualTo(NOW);
+        assertThat(millis(second)).isEqualTo(NOW);
+        assertThat(counter(second)).isEqualTo(counter(first) + 1);
+    }
+
+    @Test
+    void borrowsTheNextMillisecondWhenTheCounterRollsOver() {
+        UuidV7.Sequence sequence = new UuidV7.Sequence();
+        long previous = sequence.next(NOW);
+        // The counter starts below 0x800, so 0x1000 calls must roll over at least once
+        boolean rolledOver = false;
+        for (int i = 0; i < 0x1000; i++) {
+            long next = sequence.next(NOW);
+            assertThat(Long.compareUnsigned(next, previous)).isPositive();
+            if (millis(next) == NOW + 1) {
+                rolledOver = true;
+                assertThat(counter(next)).isZero();
+                break;
+            }
+            assertThat(millis(next)).isEqualTo(NOW);
+            previous = next;
+        }
+        assertThat(rolledOver).isTrue();
+    }
+
+    @Test
+    void staysOrderedWhenTheClockStepsBack() {
+        UuidV7.Sequence sequence = new UuidV7.Sequence();
+        long before = sequence.next(NOW);
+        long after = sequence.next(NOW - 5_000);
+
+        assertThat(millis(after)).isEqualTo(NOW);
+        assertThat(Long.compareUnsigned(after, before)).isPositive();
+    }
+
+    @Test
+    void restartsTheCounterLowInANewMillisecond() {
+        UuidV7.Sequence sequence = new UuidV7.Sequence();
+        sequence.next(NOW);
+        long next = sequence.next(NOW + 1);
+
+        assertThat(millis(next)).isEqualTo(NOW + 1);
+        assertThat(counter(next)).isLessThan(0x800);
+    }
+
+    private static long millis(long msb) {
+        return msb >>> 16;
+    }
+
+    private static int counter(long msb) {
+        return (int) (msb & 0xFFF);
+    }
+}
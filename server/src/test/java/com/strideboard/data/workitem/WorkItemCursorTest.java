@@ -0,0 +1,61 @@
+package com.strideboard.data.workitem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class WorkItemCursorTest {
+
+    private static final UUID ID = UUID.fromString("0190f2a1-7c3e-7a10-8000-000000000001");
+
+    @Test
+    void roundTripsPositionAndId() {
+        WorkItemCursor cursor = new WorkItemCursor(2500.0, ID);
+
+        assertThat(WorkItemCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void keepsMidpointPositionsExactly() {
+        // Repeated drag midpoints produce long fractions; the page boundary must not drift
+        double position = 1000.0;
+        for (int i = 0; i < 40; i++) {
+            position = (position + 1001.0) / 2;
+        }
+        WorkItemCursor cursor = new WorkItemCursor(position, ID);
+
+        assertThat(WorkItemCursor.decode(cursor.encode()).position()).isEqualTo(position);
+    }
+
+    @Test
+    void roundTripsNegativeAndTinyPositions() {
+        for (double position : new double[] { -1.5, Double.MIN_VALUE, 0.0, 1e300 }) {
+            WorkItemCursor cursor = new WorkItemCursor(position, ID);
+            assertThat(WorkItemCursor.decode(cursor.encode())).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    void encodesUrlSafely() {
+        String token = new WorkItemCursor(1234.5678, ID).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsTokensItDidNotIssue() {
+        String noSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1000.0".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1000.0|not-a-uuid".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> WorkItemCursor.decode(noSeparator)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkItemCursor.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkItemCursor.decode("!!!")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.strideboard.data.workitem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class WorkItemSearchCursorTest {
+
+    private static final UUID ID = UUID.fromString("0190f2a1-7c3e-7a10-8000-000000000002");
+
+    @Test
+    void roundTripsRankBitsExactly() {
+        // The next page compares rank with = and <, so the float must come back bit for bit
+        for (float rank : new float[] { 0.0607927f, 1e-20f, 0f, Float.MIN_VALUE, 0.1f + 0.2f }) {
+            WorkItemSearchCursor cursor = new WorkItemSearchCursor(rank, ID);
+            WorkItemSearchCursor decoded = WorkItemSearchCursor.decode(cursor.encode());
+
+            assertThat(Float.floatToIntBits(decoded.rank())).isEqualTo(Float.floatToIntBits(rank));
+            assertThat(decoded.id()).isEqualTo(ID);
+        }
+    }
+
+    @Test
+    void rejectsTokensItDidNotIssue() {
+        assertThatThrownBy(() -> WorkItemSearchCursor.decode("!!!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkItemSearchCursor.decode(new WorkItemCursor(1.0, ID).encode()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.strideboard.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+class BinaryFrameEncodingTest {
+
+    private static final CBORMapper CBOR = CBORMapper.builder().build();
+
+    @Test
+    void idFieldsBecomeBinary() {
+        String id = UUID.randomUUID().toString();
+        JsonNode frame = decode("{\"workItemId\":\"" + id + "\",\"projectId\":\"" + id + "\","
+                + "\"workItem\":{\"id\":\"" + id + "\",\"assignee\":{\"id\":\"" + id + "\"}},"
+                + "\"workItemIds\":[\"" + id + "\"],\"left\":[\"" + id + "\"]}");
+
+        assertThat(frame.get("workItemId").isBinary()).isTrue();
+        assertThat(frame.get("projectId").isBinary()).isTrue();
+        assertThat(frame.get("workItem").get("id").isBinary()).isTrue();
+        assertThat(frame.get("workItem").get("assignee").get("id").isBinary()).isTrue();
+        assertThat(frame.get("workItemIds").get(0).isBinary()).isTrue();
+        assertThat(frame.get("left").get(0).isBinary()).isTrue();
+    }
+
+    @Test
+    void otherStringsStayText() {
+        String id = UUID.randomUUID().toString();
+        JsonNode frame = decode("{\"stream\":\"" + id + "\",\"title\":\"" + id + "\","
+                + "\"tags\":[\"" + id + "\"],\"id\":\"not-a-uuid\"}");
+
+        assertThat(frame.get("stream").isBinary()).isFalse();
+        assertThat(frame.get("title").isBinary()).isFalse();
+        assertThat(frame.get("tags").get(0).isBinary()).isFalse();
+        assertThat(frame.get("id").isBinary()).isFalse();
+    }
+
+    private static JsonNode decode(String json) {
+        return CBOR.readTree(BinaryFrameEncoding.toCbor(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
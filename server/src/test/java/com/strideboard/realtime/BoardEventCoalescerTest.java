@@ -0,0 +1,144 @@
+package com.strideboard.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.strideboard.data.id.UuidV7;
+import com.strideboard.data.user.UserSummary;
+import com.strideboard.data.workitem.WorkItemPriority;
+import com.strideboard.data.workitem.WorkItemStatus;
+import com.strideboard.data.workitem.WorkItemType;
+import com.strideboard.data.workitem.WorkItemView;
+import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+
+class BoardEventCoalescerTest {
+
+    private final UUID projectId = UuidV7.next();
+    private final List<Object> frames = new ArrayList<>();
+    // Long enough that the timed flush never fires; the tests flush by hand
+    private final BoardEventCoalescer coalescer = new BoardEventCoalescer(Duration.ofHours(1),
+            (id, frame) -> frames.add(frame));
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    void singleEventPassesThroughUnchanged() {
+        WorkItemSocketEvent created = new WorkItemSocketEvent(EventType.CREATED, item(UuidV7.next(), 1), null);
+
+        coalescer.add(projectId, created);
+        coalescer.flush(projectId);
+
+        assertThat(frames).containsExactly(created);
+    }
+
+    @Test
+    void repeatedChangesKeepOnlyTheLatestStateInOrderOfLastWrite() {
+        UUID first = UuidV7.next();
+        UUID second = UuidV7.next();
+
+        coalescer.add(projectId, new WorkItemSocketEvent(EventType.CREATED, item(first, 1), null));
+        coalescer.add(projectId, new WorkItemSocketEvent(EventType.CREATED, item(second, 1), null));
+        coalescer.add(projectId, new WorkItemSocketEvent(EventType.UPDATED, item(first, 2), null));
+        coalescer.flush(projectId);
+
+        WorkItemBatchSocketEvent batch = onlyBatch();
+        assertThat(batch.getWorkItems()).extracting(WorkItemView::id).containsExactly(second, first);
+        assertThat(batch.getWorkItems()).extracting(WorkItemView::version).containsExactly(1L, 2L);
+        assertThat(batch.getWorkItemIds()).isEmpty();
+    }
+
+    @Test
+    void deleteAfterUpsertDropsTheItem() {
+        UUID kept = UuidV7.next();
+        UUID removed = UuidV7.next();
+
+        coalescer.add(projectId, new WorkItemSocketEvent(EventType.CREATED, item(kept, 1), null));
+        coalescer.add(projectId, new WorkItemSocketEvent(EventType.UPDATED, item(removed, 2), null));
+        coalescer.add(projectId, new WorkItemSocketEvent(EventType.DELETED, null, removed.toString()));
+        coalescer.flush(projectId);
+
+        WorkItemBatchSocketEvent batch = onlyBatch();
+        assertThat(batch.getWorkItems()).extracting(WorkItemView::id).containsExactly(kept);
+        assertThat(batch.getWorkItemIds()).containsExactly(removed);
+    }
+
+    @Test
+    void upsertAfterDeleteRevivesTheItem() {
+        UUID id = UuidV7.next();
+
+        coalescer.add(projectId, new WorkItemBatchSocketEvent(List.of(), List.of(id)));
+        coalescer.add(projectId, new WorkItemSocketEvent(EventType.CREATED, item(id, 1), null));
+        coalescer.flush(projectId);
+
+        WorkItemBatchSocketEvent batch = onlyBatch();
+        assertThat(batch.getWorkItems()).extracting(WorkItemView::id).containsExactly(id);
+        assertThat(batch.getWorkItemIds()).isEmpty();
+    }
+
+    @Test
+    void deltasWithFullStateMerge() {
+        UUID id = UuidV7.next();
+        WorkItemView updated = item(id, 3);
+
+        coalescer.add(projectId, new WorkItemSocketEvent(EventType.CREATED, item(id, 1), null));
+        coalescer.add(projectId, new WorkItemDeltaSocketEvent(id, 2, 3, 3, updated.updatedAt(),
+                Map.of("title", updated.title()), updated));
+        coalescer.flush(projectId);
+
+        assertThat(onlyBatch().getWorkItems()).containsExactly(updated);
+    }
+
+    @Test
+    void unmergeableEventFlushesPendingWindowFirst() {
+        UUID id = UuidV7.next();
+        WorkItemSocketEvent created = new WorkItemSocketEvent(EventType.CREATED, item(id, 1), null);
+        WorkItemDeltaSocketEvent move = new WorkItemDeltaSocketEvent(id, 1, 2, 2, LocalDateTime.now(),
+                Map.of("status", WorkItemStatus.values()[1]), null);
+        WorkItemReorderSocketEvent reorder = new WorkItemReorderSocketEvent(List.of(id), 1000.0);
+
+        coalescer.add(projectId, created);
+        coalescer.add(projectId, move);
+        coalescer.add(projectId, reorder);
+        coalescer.flush(projectId);
+
+        assertThat(frames).containsExactly(created, move, reorder);
+    }
+
+    @Test
+    void projectsAreCoalescedSeparately() {
+        UUID otherProject = UuidV7.next();
+        WorkItemSocketEvent here = new WorkItemSocketEvent(EventType.CREATED, item(UuidV7.next(), 1), null);
+        WorkItemSocketEvent there = new WorkItemSocketEvent(EventType.CREATED, item(UuidV7.next(), 1), null);
+
+        coalescer.add(projectId, here);
+        coalescer.add(otherProject, there);
+        coalescer.flush(projectId);
+        coalescer.flush(otherProject);
+
+        assertThat(frames).containsExactly(here, there);
+    }
+
+    private WorkItemBatchSocketEvent onlyBatch() {
+        assertThat(frames).hasSize(1).first().isInstanceOf(WorkItemBatchSocketEvent.class);
+        return (WorkItemBatchSocketEvent) frames.get(0);
+    }
+
+    private WorkItemView item(UUID id, long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return new WorkItemView(id, "Item v" + version, null, WorkItemStatus.values()[0],
+                WorkItemPriority.values()[0], WorkItemType.values()[0], 1000.0, version, version, now, now,
+                projectId, null, new UserSummary(UuidV7.next(), "alice@example.com", "Alice"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.strideboard.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class BoardEventReplayTest {
+
+    @Test
+    void sinceReturnsEverythingAfterTheGivenSeq() {
+        BoardEventReplay.Ring ring = ring(4, 3);
+
+        assertThat(ring.since(0)).hasValueSatisfying(entries -> assertThat(seqs(entries)).containsExactly(1L, 2L, 3L));
+        assertThat(ring.since(2)).hasValueSatisfying(entries -> assertThat(seqs(entries)).containsExactly(3L));
+    }
+
+    @Test
+    void sinceLastIsEmptyButNotGone() {
+        assertThat(ring(4, 3).since(3)).hasValueSatisfying(entries -> assertThat(entries).isEmpty());
+    }
+
+    @Test
+    void sinceAheadOfTheRingIsGone() {
+        assertThat(ring(4, 3).since(4)).isEmpty();
+    }
+
+    @Test
+    void oldestFrameStillHeldAfterWrapping() {
+        // Six frames in four slots: 3..6 are held, 1 and 2 were overwritten
+        BoardEventReplay.Ring ring = ring(4, 6);
+
+        assertThat(ring.since(2)).hasValueSatisfying(entries -> {
+            assertThat(seqs(entries)).containsExactly(3L, 4L, 5L, 6L);
+            assertThat(entries.get(0).event()).isEqualTo("{\"n\":3}");
+        });
+    }
+
+    @Test
+    void gapIntoOverwrittenFramesIsGone() {
+        BoardEventReplay.Ring ring = ring(4, 6);
+
+        assertThat(ring.since(1)).isEmpty();
+        assertThat(ring.since(0)).isEmpty();
+    }
+
+    @Test
+    void bytesCountOnlyTheFramesHeld() {
+        BoardEventReplay.Ring ring = new BoardEventReplay.Ring(2);
+        ring.add(new byte[10]);
+        ring.add(new byte[20]);
+        ring.add(new byte[5]);
+
+        assertThat(ring.bytes).isEqualTo(25);
+    }
+
+    @Test
+    void sinceOfAnotherStreamIsGone() {
+        BoardEventReplay replay = new BoardEventReplay(4, Duration.ofMinutes(10), DataSize.ofMegabytes(1));
+        UUID projectId = UUID.randomUUID();
+        String[] stream = new String[1];
+        replay.append(projectId, "{}".getBytes(StandardCharsets.UTF_8), (s, seq) -> stream[0] = s);
+
+        assertThat(replay.since(projectId, stream[0], 0)).hasValueSatisfying(entries -> assertThat(entries).hasSize(1));
+        assertThat(replay.since(projectId, UUID.randomUUID().toString(), 0)).isEmpty();
+        assertThat(replay.since(UUID.randomUUID(), stream[0], 0)).isEmpty();
+    }
+
+    private static BoardEventReplay.Ring ring(int capacity, int frames) {
+        BoardEventReplay.Ring ring = new BoardEventReplay.Ring(capacity);
+        for (int n = 1; n <= frames; n++) {
+            ring.add(("{\"n\":" + n + "}").getBytes(StandardCharsets.UTF_8));
+        }
+        return ring;
+    }
+
+    private static List<Long> seqs(List<BoardEventReplay.Entry> entries) {
+        List<Long> seqs = new ArrayList<>();
+        entries.forEach(entry -> seqs.add(entry.seq()));
+        return seqs;
+    }
+}
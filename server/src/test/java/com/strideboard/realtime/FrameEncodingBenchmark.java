@@ -0,0 +1,84 @@
+package com.strideboard.realtime;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.strideboard.data.id.UuidV7;
+import com.strideboard.data.user.UserSummary;
+import com.strideboard.data.workitem.WorkItemPriority;
+import com.strideboard.data.workitem.WorkItemStatus;
+import com.strideboard.data.workitem.WorkItemType;
+import com.strideboard.data.workitem.WorkItemView;
+import com.strideboard.realtime.WorkItemSocketEvent.EventType;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Bytes on the wire and encode cost per board frame, JSON versus the CBOR copy
+ * BinaryFrameEncoding makes for sessions that negotiated it. "json us" is the one
+ * serialization every frame pays; "cbor us" is the extra transcode, paid once per
+ * frame however many CBOR sessions receive it.
+ * Not a unit test; run manually:
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.strideboard.realtime.FrameEncodingBenchmark
+ */
+public class FrameEncodingBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    public static void main(String[] args) {
+        JsonMapper json = JsonMapper.builder().build();
+        UUID projectId = UuidV7.next();
+        UserSummary alice = new UserSummary(UuidV7.next(), "alice@example.com", "Alice Example");
+        UserSummary bob = new UserSummary(UuidV7.next(), "bob@example.com", "Bob Example");
+
+        List<WorkItemView> items = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            items.add(new WorkItemView(UuidV7.next(), "Work item " + i,
+                    "A description of a few sentences, the length a typical card carries on the board. ".repeat(3),
+                    WorkItemStatus.values()[i % WorkItemStatus.values().length],
+                    WorkItemPriority.values()[i % WorkItemPriority.values().length],
+                    WorkItemType.values()[i % WorkItemType.values().length],
+                    (i + 1) * 1000.0, 42 + i, 3, LocalDateTime.now(), LocalDateTime.now(), projectId,
+                    i % 3 == 0 ? null : bob, alice));
+        }
+        WorkItemView item = items.get(0);
+
+        Map<String, Object> frames = Map.of(
+                "patched", new WorkItemDeltaSocketEvent(item.id(), 2, 3, 42, item.updatedAt(),
+                        Map.of("status", WorkItemStatus.values()[1]), item),
+                "updated", new WorkItemSocketEvent(EventType.UPDATED, item, null),
+                "batch-50", new WorkItemBatchSocketEvent(items, List.of(UuidV7.next(), UuidV7.next())));
+
+        System.out.printf("%-10s %-12s %-12s %-10s %-10s%n", "frame", "json bytes", "cbor bytes", "json us", "cbor us");
+        for (String name : List.of("patched", "updated", "batch-50")) {
+            Object frame = frames.get(name);
+            byte[] encoded = json.writeValueAsBytes(frame);
+            byte[] cbor = BinaryFrameEncoding.toCbor(encoded);
+
+            for (int i = 0; i < WARMUP; i++) {
+                BinaryFrameEncoding.toCbor(json.writeValueAsBytes(frame));
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                json.writeValueAsBytes(frame);
+            }
+            double jsonMicros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                BinaryFrameEncoding.toCbor(encoded);
+            }
+            double cborMicros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+            System.out.printf("%-10s %-12d %-12d %-10.2f %-10.2f%n", name, encoded.length, cbor.length, jsonMicros,
+                    cborMicros);
+        }
+    }
+}
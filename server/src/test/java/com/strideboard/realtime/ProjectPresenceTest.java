@@ -0,0 +1,102 @@
+package com.strideboard.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.strideboard.auth.CurrentUser;
+
+class ProjectPresenceTest {
+
+    private static final long DEBOUNCE = 3_000;
+
+    private final ProjectPresence presence = new ProjectPresence(null, Duration.ofSeconds(30),
+            Duration.ofMillis(DEBOUNCE), false);
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    // Ticks run DEBOUNCE apart, as the scheduler does
+    private final long start = System.currentTimeMillis();
+
+    @Test
+    void joinIsAnnouncedOnTheNextTick() {
+        subscribe("s1");
+
+        Map<UUID, PresenceSocketEvent> changes = presence.changes(start);
+
+        assertThat(changes).containsOnlyKeys(projectId);
+        assertThat(changes.get(projectId).getJoined()).extracting(BoardViewer::id).containsExactly(userId);
+        assertThat(changes.get(projectId).getLeft()).isEmpty();
+    }
+
+    @Test
+    void reconnectSpanningOneTickSendsNothing() {
+        subscribe("s1");
+        presence.changes(start);
+
+        disconnect("s1");
+        assertThat(presence.changes(start + DEBOUNCE)).isEmpty();
+
+        subscribe("s2");
+        assertThat(presence.changes(start + 2 * DEBOUNCE)).isEmpty();
+        assertThat(presence.changes(start + 3 * DEBOUNCE)).isEmpty();
+    }
+
+    @Test
+    void leaveIsAnnouncedOnceAbsentForTheWholeWindow() {
+        subscribe("s1");
+        presence.changes(start);
+
+        disconnect("s1");
+        assertThat(presence.changes(start + DEBOUNCE)).isEmpty();
+
+        Map<UUID, PresenceSocketEvent> changes = presence.changes(start + 2 * DEBOUNCE);
+        assertThat(changes).containsOnlyKeys(projectId);
+        assertThat(changes.get(projectId).getLeft()).containsExactly(userId);
+        assertThat(changes.get(projectId).getJoined()).isEmpty();
+    }
+
+    @Test
+    void returningAfterTheLeaveIsAJoinAgain() {
+        subscribe("s1");
+        presence.changes(start);
+        disconnect("s1");
+        presence.changes(start + DEBOUNCE);
+        presence.changes(start + 2 * DEBOUNCE);
+
+        subscribe("s2");
+        Map<UUID, PresenceSocketEvent> changes = presence.changes(start + 3 * DEBOUNCE);
+
+        assertThat(changes.get(projectId).getJoined()).extracting(BoardViewer::id).containsExactly(userId);
+    }
+
+    private void subscribe(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination("/topic/project/" + projectId);
+        UsernamePasswordAuthenticationToken auth = UsernamePasswordAuthenticationToken.authenticated(
+                userId.toString(), null, List.of());
+        auth.setDetails(new CurrentUser(userId, "alice@example.com", "Alice"));
+        accessor.setUser(auth);
+        presence.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+    }
+
+    private void disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        presence.onDisconnect(new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+    }
+}
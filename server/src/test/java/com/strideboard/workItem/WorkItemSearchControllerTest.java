@@ -0,0 +1,46 @@
+package com.strideboard.workItem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class WorkItemSearchControllerTest {
+
+    @Test
+    void turnsEveryWordIntoARequiredPrefix() {
+        assertThat(WorkItemSearchController.toPrefixQuery("Fix login bu")).isEqualTo("fix:* & login:* & bu:*");
+    }
+
+    @Test
+    void dropsWordsShorterThanTheMinimumPrefix() {
+        assertThat(WorkItemSearchController.toPrefixQuery("a login b")).isEqualTo("login:*");
+        assertThat(WorkItemSearchController.toPrefixQuery("a b c")).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyLettersAndDigits() {
+        // tsquery operators and quotes must never reach to_tsquery
+        assertThat(WorkItemSearchController.toPrefixQuery("crash & (oom | 'x') !boot:*"))
+                .isEqualTo("crash:* & oom:* & boot:*");
+        assertThat(WorkItemSearchController.toPrefixQuery("v2.1-rc")).isEqualTo("v2:* & rc:*");
+    }
+
+    @Test
+    void keepsNonAsciiLetters() {
+        assertThat(WorkItemSearchController.toPrefixQuery("Überprüfung café")).isEqualTo("überprüfung:* & café:*");
+    }
+
+    @Test
+    void capsTheNumberOfTerms() {
+        String query = WorkItemSearchController.toPrefixQuery("one two three four five six seven eight nine ten");
+
+        assertThat(query.split(" & ")).hasSize(8).endsWith("eight:*");
+    }
+
+    @Test
+    void emptyForBlankOrMissingInput() {
+        assertThat(WorkItemSearchController.toPrefixQuery(null)).isEmpty();
+        assertThat(WorkItemSearchController.toPrefixQuery("   ")).isEmpty();
+        assertThat(WorkItemSearchController.toPrefixQuery("?!-")).isEmpty();
+    }
+}